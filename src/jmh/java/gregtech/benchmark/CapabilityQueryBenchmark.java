@@ -0,0 +1,99 @@
+package gregtech.benchmark;
+
+import gregtech.api.gui.ModularUI;
+import gregtech.api.metatileentity.MTETrait;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import gregtech.benchmark.headless.HeadlessBootstrap;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.common.capabilities.Capability;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures latency of {@link MetaTileEntity#hasCapability} and {@link MetaTileEntity#getCapability}
+ * on meta tile entities with different amount of traits, each implementing it's own capability.
+ * Queries ask for capability of last added trait and for capability no trait implements.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CapabilityQueryBenchmark {
+
+    @Param({"1", "4", "16"})
+    public int traitCount;
+
+    private MetaTileEntity metaTileEntity;
+    private Capability<?> lastTraitCapability;
+    private Capability<?> missingCapability;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.register();
+        this.metaTileEntity = new MetaTileEntity("gregtech_benchmark:capability_query") {
+            @Override
+            public MetaTileEntity createMetaTileEntity(MetaTileEntityHolder holder) {
+                return this;
+            }
+
+            @Override
+            protected ModularUI createUI(EntityPlayer entityPlayer) {
+                return null;
+            }
+        };
+        List<Capability<?>> capabilities = new ArrayList<>();
+        for (int i = 0; i <= traitCount; i++) {
+            capabilities.add(HeadlessBootstrap.createCapability("benchmark_capability_" + i));
+        }
+        for (int i = 0; i < traitCount; i++) {
+            new BenchmarkTrait(metaTileEntity, "trait_" + i, capabilities.get(i));
+        }
+        this.lastTraitCapability = capabilities.get(traitCount - 1);
+        this.missingCapability = capabilities.get(traitCount);
+    }
+
+    @Benchmark
+    public boolean hasCapabilityHit() {
+        return metaTileEntity.hasCapability(lastTraitCapability, EnumFacing.NORTH);
+    }
+
+    @Benchmark
+    public Object getCapabilityHit() {
+        return metaTileEntity.getCapability(lastTraitCapability, EnumFacing.NORTH);
+    }
+
+    @Benchmark
+    public boolean hasCapabilityMiss() {
+        return metaTileEntity.hasCapability(missingCapability, EnumFacing.NORTH);
+    }
+
+    private static class BenchmarkTrait extends MTETrait {
+
+        private final String name;
+        private final Capability<?> capability;
+
+        public BenchmarkTrait(MetaTileEntity metaTileEntity, String name, Capability<?> capability) {
+            super(metaTileEntity);
+            this.name = name;
+            this.capability = capability;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Capability<?> getImplementingCapability() {
+            return capability;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package gregtech.benchmark;
+
+import gregtech.api.pipenet.Node;
+import gregtech.common.pipelike.cable.WireProperties;
+import gregtech.common.pipelike.cable.net.EnergyNet;
+import gregtech.common.pipelike.cable.net.RoutePath;
+import gregtech.common.pipelike.cable.net.WorldENet;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares least loss routing of {@link EnergyNet#computePatches(BlockPos, long)} with depth-first
+ * route search it replaced, on flat square cable grids with randomly mixed cable types and machines.<p>
+ *
+ * Route count, total path entries and average route loss of both searches are printed once per trial.
+ * Depth-first search is reproduced here as it was, except connection checks, since grid has no blocked sides or marks.<p>
+ *
+ * Heap retained by least loss routes is printed too, both for packed {@link RoutePath} and for the same routes
+ * stored as position to wire properties hash maps, like routes were stored before. Default 100 grid size is 10k cables.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnergyRoutingBenchmark {
+
+    private static final WireProperties[] WIRE_TYPES = {
+        new WireProperties(32, 1, 1),
+        new WireProperties(128, 2, 2),
+        new WireProperties(512, 4, 4)
+    };
+    //every n-th cable on average is next to a machine
+    private static final int ACTIVE_NODE_RATIO = 16;
+    //voltage routes are searched for, so routes avoid cheapest cable type when they can
+    private static final long ROUTE_VOLTAGE = 128L;
+
+    @Param({"32", "100"})
+    public int gridSize;
+
+    private EnergyNet energyNet;
+    private final BlockPos startPos = BlockPos.ORIGIN;
+    //keeps measured object reachable while heap usage is read
+    private static Object retainedObject;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        WorldENet worldENet = new WorldENet("gregtech_benchmark.e_net");
+        Random random = new Random(42L);
+        for (int x = 0; x < gridSize; x++) {
+            for (int z = 0; z < gridSize; z++) {
+                BlockPos pos = new BlockPos(x, 0, z);
+                WireProperties wireProperties = WIRE_TYPES[random.nextInt(WIRE_TYPES.length)];
+                boolean isActive = pos.equals(startPos) || random.nextInt(ACTIVE_NODE_RATIO) == 0;
+                worldENet.addNode(pos, wireProperties, 0, 0, isActive);
+            }
+        }
+        this.energyNet = worldENet.getNetFromPos(startPos);
+        List<RoutePath> routes = energyNet.computePatches(startPos, ROUTE_VOLTAGE);
+        int leastLossEntries = 0;
+        long leastLossTotalLoss = 0L;
+        for (RoutePath routePath : routes) {
+            leastLossEntries += routePath.getLength();
+            leastLossTotalLoss += routePath.totalLoss;
+        }
+        List<Map<BlockPos, WireProperties>> depthFirstPaths = computeDepthFirstPaths();
+        int depthFirstEntries = 0;
+        long depthFirstTotalLoss = 0L;
+        for (Map<BlockPos, WireProperties> path : depthFirstPaths) {
+            depthFirstEntries += path.size();
+            for (WireProperties wireProperties : path.values()) {
+                depthFirstTotalLoss += wireProperties.lossPerBlock;
+            }
+        }
+        System.out.printf("%nleast loss: %d routes, %d path entries, %.1f average loss%n",
+            routes.size(), leastLossEntries, leastLossTotalLoss / (double) routes.size());
+        System.out.printf("depth-first: %d routes, %d path entries, %.1f average loss%n",
+            depthFirstPaths.size(), depthFirstEntries, depthFirstTotalLoss / (double) depthFirstPaths.size());
+        long packedBytes = measureRetainedBytes(() -> energyNet.computePatches(startPos, ROUTE_VOLTAGE));
+        long hashMapBytes = measureRetainedBytes(() -> toHashMapRoutes(routes));
+        System.out.printf("least loss routes memory: %d KiB packed, %d KiB as hash maps%n",
+            packedBytes / 1024, hashMapBytes / 1024);
+    }
+
+    @Benchmark
+    public List<RoutePath> leastLossRouting() {
+        return energyNet.computePatches(startPos, ROUTE_VOLTAGE);
+    }
+
+    @Benchmark
+    public List<Map<BlockPos, WireProperties>> depthFirstRouting() {
+        return computeDepthFirstPaths();
+    }
+
+    //position keys are shared between maps, same as routes used to share them
+    private List<Map<BlockPos, WireProperties>> toHashMapRoutes(List<RoutePath> routes) {
+        Map<BlockPos, Node<WireProperties>> allNodes = energyNet.getAllNodes();
+        Map<BlockPos, BlockPos> sharedPositions = new HashMap<>();
+        for (BlockPos blockPos : allNodes.keySet()) {
+            sharedPositions.put(blockPos, blockPos);
+        }
+        List<Map<BlockPos, WireProperties>> hashMapRoutes = new ArrayList<>();
+        for (RoutePath routePath : routes) {
+            HashMap<BlockPos, WireProperties> path = new HashMap<>();
+            for (BlockPos blockPos : routePath.getPositions()) {
+                path.put(sharedPositions.get(blockPos), allNodes.get(blockPos).data);
+            }
+            hashMapRoutes.add(path);
+        }
+        return hashMapRoutes;
+    }
+
+    private static long measureRetainedBytes(Supplier<Object> supplier) {
+        long usedBefore = getUsedHeapAfterGc();
+        retainedObject = supplier.get();
+        long usedAfter = getUsedHeapAfterGc();
+        retainedObject = null;
+        return usedAfter - usedBefore;
+    }
+
+    private static long getUsedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private List<Map<BlockPos, WireProperties>> computeDepthFirstPaths() {
+        Map<BlockPos, Node<WireProperties>> allNodes = energyNet.getAllNodes();
+        List<Map<BlockPos, WireProperties>> readyPaths = new ArrayList<>();
+        HashMap<BlockPos, WireProperties> currentPath = new HashMap<>();
+        currentPath.put(startPos, allNodes.get(startPos).data);
+        readyPaths.add(new HashMap<>(currentPath));
+        HashSet<BlockPos> observedSet = new HashSet<>();
+        observedSet.add(startPos);
+        MutableBlockPos currentPos = new MutableBlockPos(startPos);
+        Stack<EnumFacing> moveStack = new Stack<>();
+        main: while (true) {
+            for (EnumFacing facing : EnumFacing.VALUES) {
+                currentPos.move(facing);
+                Node<WireProperties> secondNode = allNodes.get(currentPos);
+                if (secondNode != null && !observedSet.contains(currentPos)) {
+                    BlockPos immutablePos = currentPos.toImmutable();
+                    observedSet.add(immutablePos);
+                    moveStack.push(facing.getOpposite());
+                    currentPath.put(immutablePos, secondNode.data);
+                    if (secondNode.isActive) {
+                        readyPaths.add(new HashMap<>(currentPath));
+                    }
+                    continue main;
+                } else {
+                    currentPos.move(facing.getOpposite());
+                }
+            }
+            if (!moveStack.isEmpty()) {
+                currentPos.move(moveStack.pop());
+                currentPath.remove(currentPos);
+            } else break;
+        }
+        return readyPaths;
+    }
+}
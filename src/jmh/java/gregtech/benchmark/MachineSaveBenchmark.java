@@ -0,0 +1,115 @@
+package gregtech.benchmark;
+
+import gregtech.api.capability.impl.EnergyContainerHandler;
+import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.gui.ModularUI;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.items.IItemHandlerModifiable;
+import net.minecraftforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of serializing a chunk section full of machines with filled inventories, tanks and energy container,
+ * like {@link MetaTileEntity#writeToNBT} is called on chunk save.<p>
+ *
+ * Idle save serializes machines which didn't change since previous save, while changed save
+ * modifies import inventory of every machine before saving it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MachineSaveBenchmark {
+
+    private static final int MACHINES = 16 * 16 * 16;
+    private static final int SLOTS = 4;
+
+    private final List<MetaTileEntity> metaTileEntities = new ArrayList<>();
+    private int changeCounter = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Bootstrap.register();
+        for (int i = 0; i < MACHINES; i++) {
+            MetaTileEntity metaTileEntity = createMachine();
+            new EnergyContainerHandler(metaTileEntity, 16000L, 32L, 2L, 0L, 0L);
+            IItemHandlerModifiable importItems = metaTileEntity.getImportItems();
+            for (int slot = 0; slot < SLOTS; slot++) {
+                importItems.setStackInSlot(slot, new ItemStack(Items.IRON_INGOT, 16 + slot));
+            }
+            metaTileEntity.getExportItems().setStackInSlot(0, new ItemStack(Items.GOLD_INGOT, 32));
+            metaTileEntity.getImportFluids().fill(new FluidStack(FluidRegistry.WATER, 8000), true);
+            metaTileEntities.add(metaTileEntity);
+        }
+        //first save fills caches, like first autosave after chunk load does
+        for (MetaTileEntity metaTileEntity : metaTileEntities) {
+            metaTileEntity.writeToNBT(new NBTTagCompound());
+        }
+    }
+
+    @Benchmark
+    public void saveIdleChunk(Blackhole blackhole) {
+        for (MetaTileEntity metaTileEntity : metaTileEntities) {
+            blackhole.consume(metaTileEntity.writeToNBT(new NBTTagCompound()));
+        }
+    }
+
+    @Benchmark
+    public void saveChangedChunk(Blackhole blackhole) {
+        int stackSize = 1 + (changeCounter++ & 31);
+        for (MetaTileEntity metaTileEntity : metaTileEntities) {
+            metaTileEntity.getImportItems().setStackInSlot(0, new ItemStack(Items.IRON_INGOT, stackSize));
+            blackhole.consume(metaTileEntity.writeToNBT(new NBTTagCompound()));
+        }
+    }
+
+    private static MetaTileEntity createMachine() {
+        return new MetaTileEntity("gregtech_benchmark:machine_save") {
+            @Override
+            public MetaTileEntity createMetaTileEntity(MetaTileEntityHolder holder) {
+                return this;
+            }
+
+            @Override
+            protected ModularUI createUI(EntityPlayer entityPlayer) {
+                return null;
+            }
+
+            @Override
+            protected IItemHandlerModifiable createImportItemHandler() {
+                return new ItemStackHandler(SLOTS);
+            }
+
+            @Override
+            protected IItemHandlerModifiable createExportItemHandler() {
+                return new ItemStackHandler(SLOTS);
+            }
+
+            @Override
+            protected FluidTankList createImportFluidHandler() {
+                return new FluidTankList(false, new FluidTank(16000), new FluidTank(16000));
+            }
+
+            @Override
+            protected FluidTankList createExportFluidHandler() {
+                return new FluidTankList(false, new FluidTank(16000));
+            }
+        };
+    }
+}
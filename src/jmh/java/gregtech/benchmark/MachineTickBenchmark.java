@@ -0,0 +1,200 @@
+package gregtech.benchmark;
+
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.SimpleMachineMetaTileEntity;
+import gregtech.api.recipes.CountableIngredient;
+import gregtech.api.recipes.RecipeMaps;
+import gregtech.api.recipes.recipes.PrimitiveBlastFurnaceRecipe;
+import gregtech.api.render.Textures;
+import gregtech.api.unification.material.Materials;
+import gregtech.benchmark.headless.*;
+import gregtech.common.blocks.BlockMetalCasing;
+import gregtech.common.blocks.BlockMetalCasing.MetalCasingType;
+import gregtech.common.blocks.MetaBlocks;
+import gregtech.common.metatileentities.multi.MetaTileEntityPrimitiveBlastFurnace;
+import gregtech.common.pipelike.cable.BlockCable;
+import gregtech.common.pipelike.cable.Insulation;
+import gregtech.common.pipelike.cable.WireProperties;
+import gregtech.common.pipelike.fluidpipe.BlockFluidPipe;
+import gregtech.common.pipelike.fluidpipe.FluidPipeProperties;
+import gregtech.common.pipelike.fluidpipe.FluidPipeType;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.items.IItemHandlerModifiable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures server tick throughput of machines, multiblocks, cables and pipes placed in a {@link HeadlessWorld},
+ * without minecraft client, server or network.<p>
+ *
+ * Every operation is one world tick, so score is ticks per second, and gc profiler enabled by jmh gradle task
+ * reports allocations per tick. Simple machines scenario runs LV electric furnaces smelting iron ore, each powered
+ * by it's own energy source. Cables scenario powers the same furnaces through single tin cable line.
+ * Multiblocks scenario runs formed primitive blast furnaces on a short iron to gold recipe registered by the benchmark,
+ * since regular recipes are not loaded headless, fed with iron ingots and coal.
+ * Pipes scenario moves water from sources to sinks through steel fluid pipe lines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MachineTickBenchmark {
+
+    private static final int MACHINES = 64;
+    private static final int MULTIBLOCKS = 16;
+    private static final int PIPE_LINES = 16;
+    private static final int PIPE_LINE_LENGTH = 32;
+    private static final long LV = 32L;
+    //short enough for blast furnaces to finish several recipes per measurement iteration
+    private static final PrimitiveBlastFurnaceRecipe BLAST_FURNACE_RECIPE = new PrimitiveBlastFurnaceRecipe(
+        CountableIngredient.from(new ItemStack(Items.IRON_INGOT)), new ItemStack(Items.GOLD_INGOT), 20, 1);
+
+    @Param({"simple_machines", "cables", "multiblocks", "pipes"})
+    public String scenario;
+
+    private HeadlessWorld world;
+    private final List<MetaTileEntity> furnaces = new ArrayList<>();
+    private final List<MetaTileEntity> blastFurnaces = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HeadlessBootstrap.bootstrap();
+        this.world = new HeadlessWorld();
+        switch (scenario) {
+            case "simple_machines": placeSimpleMachines(); break;
+            case "cables": placeCableLine(); break;
+            case "multiblocks": placeMultiblocks(); break;
+            case "pipes": placePipeLines(); break;
+            default: throw new IllegalArgumentException("Unknown scenario " + scenario);
+        }
+        //let machines connect, form structures and start working before measurement
+        for (int i = 0; i < 100; i++) {
+            tick();
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        world.tick();
+        refillFurnaces();
+        refillBlastFurnaces();
+    }
+
+    private void placeSimpleMachines() {
+        MetaTileEntity furnace = createFurnace();
+        MetaTileEntity energySource = new HeadlessEnergySource("gregtech_benchmark:energy_source", LV, 2L);
+        for (int i = 0; i < MACHINES; i++) {
+            BlockPos pos = new BlockPos(i, 1, 0);
+            world.placeMetaTileEntity(pos.down(), energySource, EnumFacing.NORTH);
+            furnaces.add(world.placeMetaTileEntity(pos, furnace, EnumFacing.NORTH));
+        }
+    }
+
+    private void placeCableLine() {
+        MetaTileEntity furnace = createFurnace();
+        //furnaces on both sides of the line, energy source above it's middle, so losses stay below voltage
+        int lineLength = MACHINES / 2;
+        for (int i = 0; i < lineLength; i++) {
+            furnaces.add(world.placeMetaTileEntity(new BlockPos(i, 0, -1), furnace, EnumFacing.NORTH));
+            furnaces.add(world.placeMetaTileEntity(new BlockPos(i, 0, 1), furnace, EnumFacing.SOUTH));
+        }
+        world.placeMetaTileEntity(new BlockPos(lineLength / 2, 1, 0),
+            new HeadlessEnergySource("gregtech_benchmark:energy_source", LV, MACHINES), EnumFacing.NORTH);
+        BlockCable cableBlock = new BlockCable(Materials.Tin, new WireProperties((int) LV, MACHINES, 1));
+        IBlockState cableState = cableBlock.getDefaultState().withProperty(cableBlock.pipeVariantProperty, Insulation.CABLE_SINGLE);
+        for (int i = 0; i < lineLength; i++) {
+            world.setBlockState(new BlockPos(i, 0, 0), cableState);
+        }
+    }
+
+    private void placeMultiblocks() {
+        if (MetaBlocks.METAL_CASING == null) {
+            MetaBlocks.METAL_CASING = new BlockMetalCasing();
+        }
+        if (!RecipeMaps.PRIMITIVE_BLAST_FURNACE_RECIPES.contains(BLAST_FURNACE_RECIPE)) {
+            RecipeMaps.PRIMITIVE_BLAST_FURNACE_RECIPES.add(BLAST_FURNACE_RECIPE);
+        }
+        IBlockState casingState = MetaBlocks.METAL_CASING.getState(MetalCasingType.PRIMITIVE_BRICKS);
+        MetaTileEntity blastFurnace = new MetaTileEntityPrimitiveBlastFurnace("gregtech_benchmark:primitive_blast_furnace");
+        for (int i = 0; i < MULTIBLOCKS; i++) {
+            //3x4x3 structure behind the controller, with 2 blocks high hollow above controller level
+            BlockPos origin = new BlockPos(i * 4, 0, 0);
+            for (int x = -1; x <= 1; x++) {
+                for (int y = 0; y <= 3; y++) {
+                    for (int z = 0; z <= 2; z++) {
+                        boolean isController = x == 0 && y == 1 && z == 0;
+                        boolean isHollow = x == 0 && y >= 1 && z == 1;
+                        if (!isController && !isHollow) {
+                            world.setBlockState(origin.add(x, y, z), casingState);
+                        }
+                    }
+                }
+            }
+            blastFurnaces.add(world.placeMetaTileEntity(origin.up(), blastFurnace, EnumFacing.NORTH));
+        }
+    }
+
+    private void placePipeLines() {
+        MetaTileEntity fluidSource = new HeadlessFluidSource("gregtech_benchmark:fluid_source");
+        MetaTileEntity fluidSink = new HeadlessFluidSink("gregtech_benchmark:fluid_sink");
+        for (int i = 0; i < PIPE_LINES; i++) {
+            world.placeMetaTileEntity(new BlockPos(i * 2, 0, -1), fluidSource, EnumFacing.SOUTH);
+            world.placeMetaTileEntity(new BlockPos(i * 2, 0, PIPE_LINE_LENGTH), fluidSink, EnumFacing.NORTH);
+        }
+        BlockFluidPipe pipeBlock = new BlockFluidPipe(Materials.Steel, new FluidPipeProperties(2557, 100, true));
+        IBlockState pipeState = pipeBlock.getDefaultState().withProperty(pipeBlock.pipeVariantProperty, FluidPipeType.MEDIUM_OPAQUE);
+        for (int i = 0; i < PIPE_LINES; i++) {
+            for (int z = 0; z < PIPE_LINE_LENGTH; z++) {
+                world.setBlockState(new BlockPos(i * 2, 0, z), pipeState);
+            }
+        }
+    }
+
+    private static MetaTileEntity createFurnace() {
+        return new SimpleMachineMetaTileEntity("gregtech_benchmark:electric_furnace",
+            RecipeMaps.FURNACE_RECIPES, Textures.ELECTRIC_FURNACE_OVERLAY, 1);
+    }
+
+    //keeps furnaces working, touches inventories only when needed, like hoppers would
+    private void refillFurnaces() {
+        for (MetaTileEntity furnace : furnaces) {
+            IItemHandlerModifiable importItems = furnace.getImportItems();
+            if (importItems.getStackInSlot(0).getCount() < 8) {
+                importItems.setStackInSlot(0, new ItemStack(Blocks.IRON_ORE, 64));
+            }
+            IItemHandlerModifiable exportItems = furnace.getExportItems();
+            if (exportItems.getStackInSlot(0).getCount() > 56) {
+                exportItems.setStackInSlot(0, ItemStack.EMPTY);
+            }
+        }
+    }
+
+    private void refillBlastFurnaces() {
+        for (MetaTileEntity blastFurnace : blastFurnaces) {
+            IItemHandlerModifiable importItems = blastFurnace.getImportItems();
+            if (importItems.getStackInSlot(0).getCount() < 8) {
+                importItems.setStackInSlot(0, new ItemStack(Items.IRON_INGOT, 64));
+            }
+            if (importItems.getStackInSlot(1).getCount() < 8) {
+                importItems.setStackInSlot(1, new ItemStack(Items.COAL, 64));
+            }
+            //dark ash is output next to gold, if meta items are registered headless
+            IItemHandlerModifiable exportItems = blastFurnace.getExportItems();
+            for (int i = 0; i < exportItems.getSlots(); i++) {
+                if (exportItems.getStackInSlot(i).getCount() > 56) {
+                    exportItems.setStackInSlot(i, ItemStack.EMPTY);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package gregtech.benchmark;
+
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures latency of {@link RecipeMap#findRecipe(long, List, List)} on large synthetic recipe maps.<p>
+ *
+ * Hits look up inputs of random recipes of the map. Repeated misses cycle through few input sets,
+ * so they are served by miss cache, while unique misses cycle through more input sets than miss cache holds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeLookupBenchmark {
+
+    private static final int HIT_INPUT_SETS = 1024;
+    private static final int REPEATED_MISS_INPUT_SETS = 64;
+    private static final int UNIQUE_MISS_INPUT_SETS = 4096;
+
+    @Param({"10000", "50000"})
+    public int recipeCount;
+
+    private RecipeMap<?> recipeMap;
+    private final List<List<ItemStack>> hitInputs = new ArrayList<>();
+    private final List<List<FluidStack>> hitFluidInputs = new ArrayList<>();
+    private final List<List<ItemStack>> missInputs = new ArrayList<>();
+    private int hitIndex = 0;
+    private int repeatedMissIndex = 0;
+    private int uniqueMissIndex = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.recipeMap = SyntheticRecipes.createRecipeMap(recipeCount, 42L);
+        List<Recipe> recipes = new ArrayList<>(recipeMap.getRecipeList());
+        Random random = new Random(1337L);
+        for (int i = 0; i < HIT_INPUT_SETS; i++) {
+            Recipe recipe = recipes.get(random.nextInt(recipes.size()));
+            hitInputs.add(SyntheticRecipes.getMatchingInputs(recipe));
+            hitFluidInputs.add(SyntheticRecipes.getMatchingFluidInputs(recipe));
+        }
+        //single items are far below counts required by almost all recipes, so these are misses
+        for (int i = 0; i < UNIQUE_MISS_INPUT_SETS; i++) {
+            int variant = random.nextInt(SyntheticRecipes.ITEM_VARIANTS);
+            missInputs.add(Collections.singletonList(SyntheticRecipes.getItemStack(variant, 1)));
+        }
+    }
+
+    @Benchmark
+    public Recipe findRecipeHit() {
+        int index = hitIndex++ & (HIT_INPUT_SETS - 1);
+        return recipeMap.findRecipe(Long.MAX_VALUE, hitInputs.get(index), hitFluidInputs.get(index));
+    }
+
+    @Benchmark
+    public Recipe findRecipeRepeatedMiss() {
+        int index = repeatedMissIndex++ & (REPEATED_MISS_INPUT_SETS - 1);
+        return recipeMap.findRecipe(Long.MAX_VALUE, missInputs.get(index), Collections.emptyList());
+    }
+
+    @Benchmark
+    public Recipe findRecipeUniqueMiss() {
+        int index = uniqueMissIndex++ & (UNIQUE_MISS_INPUT_SETS - 1);
+        return recipeMap.findRecipe(Long.MAX_VALUE, missInputs.get(index), Collections.emptyList());
+    }
+}
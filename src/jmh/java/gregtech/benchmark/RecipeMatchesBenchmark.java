@@ -0,0 +1,92 @@
+package gregtech.benchmark;
+
+import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.items.ItemStackHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of {@link Recipe#matches} against machine-like inventories,
+ * both with handlers used by machines and with plain lists used by recipe lookup.
+ * Inputs are never consumed, so every invocation sees same inventory contents.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeMatchesBenchmark {
+
+    private static final int INVENTORIES = 256;
+    private static final int INPUT_SLOTS = 6;
+    private static final int INPUT_TANKS = 2;
+
+    private final List<Recipe> recipes = new ArrayList<>();
+    private final List<ItemStackHandler> itemHandlers = new ArrayList<>();
+    private final List<FluidTankList> fluidHandlers = new ArrayList<>();
+    private final List<List<ItemStack>> itemLists = new ArrayList<>();
+    private final List<List<FluidStack>> fluidLists = new ArrayList<>();
+    private int index = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        RecipeMap<?> recipeMap = SyntheticRecipes.createRecipeMap(10000, 42L);
+        List<Recipe> allRecipes = new ArrayList<>(recipeMap.getRecipeList());
+        Random random = new Random(1337L);
+        for (int i = 0; i < INVENTORIES; i++) {
+            Recipe recipe = allRecipes.get(random.nextInt(allRecipes.size()));
+            List<ItemStack> inputs = SyntheticRecipes.getMatchingInputs(recipe);
+            List<FluidStack> fluidInputs = SyntheticRecipes.getMatchingFluidInputs(recipe);
+            //fill rest of slots with unrelated items, like in real machine with several inputs
+            while (inputs.size() < INPUT_SLOTS) {
+                inputs.add(SyntheticRecipes.getItemStack(random.nextInt(SyntheticRecipes.ITEM_VARIANTS), 1));
+            }
+            ItemStackHandler itemHandler = new ItemStackHandler(INPUT_SLOTS);
+            for (int slot = 0; slot < INPUT_SLOTS; slot++) {
+                itemHandler.setStackInSlot(slot, inputs.get(slot).copy());
+            }
+            FluidTank[] fluidTanks = new FluidTank[INPUT_TANKS];
+            for (int tank = 0; tank < INPUT_TANKS; tank++) {
+                fluidTanks[tank] = new FluidTank(16000);
+                if (tank < fluidInputs.size()) {
+                    fluidTanks[tank].setFluid(fluidInputs.get(tank).copy());
+                }
+            }
+            recipes.add(recipe);
+            itemHandlers.add(itemHandler);
+            fluidHandlers.add(new FluidTankList(false, fluidTanks));
+            itemLists.add(inputs);
+            fluidLists.add(fluidInputs);
+        }
+    }
+
+    @Benchmark
+    public boolean matchesHandlers() {
+        int current = index++ & (INVENTORIES - 1);
+        return recipes.get(current).matches(false, itemHandlers.get(current), fluidHandlers.get(current));
+    }
+
+    @Benchmark
+    public boolean matchesLists() {
+        int current = index++ & (INVENTORIES - 1);
+        return recipes.get(current).matches(false, itemLists.get(current), fluidLists.get(current));
+    }
+
+    @Benchmark
+    public boolean mismatchesHandlers() {
+        //pairs recipe with inventory of other recipe
+        int current = index++ & (INVENTORIES - 1);
+        int other = (current + 1) & (INVENTORIES - 1);
+        return recipes.get(current).matches(false, itemHandlers.get(other), fluidHandlers.get(other));
+    }
+}
@@ -0,0 +1,140 @@
+package gregtech.benchmark;
+
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gregtech.api.recipes.CountableIngredient;
+import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.builders.SimpleRecipeBuilder;
+import gregtech.api.util.EnumValidationResult;
+import gregtech.api.util.ValidationResult;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+import net.minecraftforge.oredict.OreDictionary;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates synthetic recipe maps of configurable size for benchmarks.<p>
+ *
+ * Recipes are built from a fixed set of items with metadata variants, part of which are registered
+ * in ore dictionary, and a fixed set of fluids. Only vanilla bootstrap is performed,
+ * so no minecraft client or server is started.
+ */
+public class SyntheticRecipes {
+
+    public static final int ITEM_TYPES = 256;
+    public static final int METADATA_VARIANTS = 64;
+    public static final int ITEM_VARIANTS = ITEM_TYPES * METADATA_VARIANTS;
+    public static final int FLUID_TYPES = 64;
+    //every n-th item variant has ore dictionary name
+    public static final int ORE_DICT_RATIO = 4;
+
+    private static final List<Item> items = new ArrayList<>();
+    private static final List<Fluid> fluids = new ArrayList<>();
+    private static boolean isBootstrapped = false;
+    private static int recipeMapsCreated = 0;
+
+    public static synchronized void bootstrap() {
+        if (isBootstrapped) return;
+        Bootstrap.register();
+        for (int i = 0; i < ITEM_TYPES; i++) {
+            Item item = new Item().setHasSubtypes(true)
+                .setRegistryName(new ResourceLocation("gregtech_benchmark", "item_" + i));
+            ForgeRegistries.ITEMS.register(item);
+            items.add(item);
+        }
+        for (int variant = 0; variant < ITEM_VARIANTS; variant += ORE_DICT_RATIO) {
+            OreDictionary.registerOre(getOreDictName(variant), getItemStack(variant, 1));
+        }
+        for (int i = 0; i < FLUID_TYPES; i++) {
+            String fluidName = "gregtech_benchmark_fluid_" + i;
+            ResourceLocation texture = new ResourceLocation("gregtech_benchmark", fluidName);
+            Fluid fluid = new Fluid(fluidName, texture, texture);
+            FluidRegistry.registerFluid(fluid);
+            fluids.add(fluid);
+        }
+        isBootstrapped = true;
+    }
+
+    public static ItemStack getItemStack(int variant, int count) {
+        return new ItemStack(items.get(variant / METADATA_VARIANTS), count, variant % METADATA_VARIANTS);
+    }
+
+    public static String getOreDictName(int variant) {
+        return "benchmarkVariant" + variant;
+    }
+
+    public static FluidStack getFluidStack(int fluidIndex, int amount) {
+        return new FluidStack(fluids.get(fluidIndex), amount);
+    }
+
+    /**
+     * Creates new recipe map with given amount of recipes. Recipes have 1 to 3 item inputs,
+     * a quarter of which are ore dictionary ingredients, and every third recipe has a fluid input.
+     * Same seed always produces same recipes.
+     */
+    public static RecipeMap<SimpleRecipeBuilder> createRecipeMap(int recipeCount, long seed) {
+        bootstrap();
+        RecipeMap<SimpleRecipeBuilder> recipeMap = new RecipeMap<>("benchmark_" + recipeMapsCreated++,
+            1, 3, 1, 1, 0, 1, 0, 0, 1, new SimpleRecipeBuilder());
+        Random random = new Random(seed);
+        for (int i = 0; i < recipeCount; i++) {
+            recipeMap.addRecipe(ValidationResult.newResult(EnumValidationResult.VALID, createRecipe(random)));
+        }
+        return recipeMap;
+    }
+
+    private static Recipe createRecipe(Random random) {
+        List<CountableIngredient> inputs = new ArrayList<>();
+        int inputsCount = 1 + random.nextInt(3);
+        for (int i = 0; i < inputsCount; i++) {
+            int variant = random.nextInt(ITEM_VARIANTS);
+            int count = 1 + random.nextInt(16);
+            if (variant % ORE_DICT_RATIO == 0) {
+                inputs.add(CountableIngredient.from(getOreDictName(variant), count));
+            } else {
+                inputs.add(CountableIngredient.from(getItemStack(variant, count)));
+            }
+        }
+        List<FluidStack> fluidInputs = random.nextInt(3) == 0 ?
+            Collections.singletonList(getFluidStack(random.nextInt(FLUID_TYPES), 100 * (1 + random.nextInt(10)))) :
+            Collections.emptyList();
+        List<ItemStack> outputs = Collections.singletonList(getItemStack(random.nextInt(ITEM_VARIANTS), 1));
+        int EUt = 2 << (2 * random.nextInt(5));
+        return new Recipe(inputs, outputs, new TObjectIntHashMap<>(), fluidInputs, Collections.emptyList(),
+            Collections.emptyMap(), 20 + random.nextInt(400), EUt, false, true, false);
+    }
+
+    /**
+     * @return item stacks satisfying all item inputs of the recipe
+     */
+    public static List<ItemStack> getMatchingInputs(Recipe recipe) {
+        List<ItemStack> result = new ArrayList<>();
+        for (CountableIngredient ingredient : recipe.getInputs()) {
+            ItemStack itemStack = ingredient.getIngredient().getMatchingStacks()[0].copy();
+            itemStack.setCount(Math.max(1, ingredient.getCount()));
+            result.add(itemStack);
+        }
+        return result;
+    }
+
+    /**
+     * @return fluid stacks satisfying all fluid inputs of the recipe
+     */
+    public static List<FluidStack> getMatchingFluidInputs(Recipe recipe) {
+        List<FluidStack> result = new ArrayList<>();
+        for (FluidStack fluidStack : recipe.getFluidInputs()) {
+            result.add(fluidStack.copy());
+        }
+        return result;
+    }
+}
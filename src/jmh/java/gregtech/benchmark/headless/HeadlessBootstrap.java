@@ -0,0 +1,56 @@
+package gregtech.benchmark.headless;
+
+import gregtech.api.capability.GregtechCapabilities;
+import gregtech.api.capability.IElectricItem;
+import gregtech.api.capability.IEnergyContainer;
+import gregtech.api.capability.IWorkable;
+import net.minecraft.init.Bootstrap;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.Capability.IStorage;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandlerItem;
+import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.Callable;
+
+/**
+ * Prepares minimal game state required by meta tile entities, without starting minecraft or forge mod loading.<p>
+ *
+ * Performs vanilla bootstrap and fills capabilities which forge normally injects during mod loading,
+ * so capability queries between machines, cables and pipes work like they do in game.
+ */
+public class HeadlessBootstrap {
+
+    private static boolean isBootstrapped = false;
+
+    public static synchronized void bootstrap() {
+        if (isBootstrapped) return;
+        Bootstrap.register();
+        GregtechCapabilities.CAPABILITY_WORKABLE = createCapability(IWorkable.class);
+        GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER = createCapability(IEnergyContainer.class);
+        GregtechCapabilities.CAPABILITY_ELECTRIC_ITEM = createCapability(IElectricItem.class);
+        CapabilityItemHandler.ITEM_HANDLER_CAPABILITY = createCapability(IItemHandler.class);
+        CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY = createCapability(IFluidHandler.class);
+        CapabilityFluidHandler.FLUID_HANDLER_ITEM_CAPABILITY = createCapability(IFluidHandlerItem.class);
+        isBootstrapped = true;
+    }
+
+    //capabilities are normally created by forge capability manager during mod loading
+    public static Capability<?> createCapability(String name) {
+        try {
+            Constructor<Capability> constructor = Capability.class.getDeclaredConstructor(String.class, IStorage.class, Callable.class);
+            constructor.setAccessible(true);
+            return constructor.newInstance(name, null, null);
+        } catch (ReflectiveOperationException exception) {
+            throw new IllegalStateException("Failed to create capability " + name, exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Capability<T> createCapability(Class<T> capabilityClass) {
+        return (Capability<T>) createCapability(capabilityClass.getName().intern());
+    }
+}
@@ -0,0 +1,47 @@
+package gregtech.benchmark.headless;
+
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.EmptyChunk;
+import net.minecraft.world.chunk.IChunkProvider;
+
+import javax.annotation.Nullable;
+
+/**
+ * Chunk provider of {@link HeadlessWorld}. Blocks are not stored in chunks there,
+ * so it only provides empty chunks for the few world methods that still access them
+ */
+public class HeadlessChunkProvider implements IChunkProvider {
+
+    private final World world;
+
+    public HeadlessChunkProvider(World world) {
+        this.world = world;
+    }
+
+    @Nullable
+    @Override
+    public Chunk getLoadedChunk(int x, int z) {
+        return new EmptyChunk(world, x, z);
+    }
+
+    @Override
+    public Chunk provideChunk(int x, int z) {
+        return new EmptyChunk(world, x, z);
+    }
+
+    @Override
+    public boolean tick() {
+        return false;
+    }
+
+    @Override
+    public String makeString() {
+        return "HeadlessChunkProvider";
+    }
+
+    @Override
+    public boolean isChunkGeneratedAt(int x, int z) {
+        return true;
+    }
+}
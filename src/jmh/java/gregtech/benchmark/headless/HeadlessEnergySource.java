@@ -0,0 +1,42 @@
+package gregtech.benchmark.headless;
+
+import gregtech.api.capability.impl.EnergyContainerHandler;
+import gregtech.api.gui.ModularUI;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import net.minecraft.entity.player.EntityPlayer;
+
+/**
+ * Infinite energy source emitting given voltage and amperage to all sides every tick
+ */
+public class HeadlessEnergySource extends MetaTileEntity {
+
+    private final long voltage;
+    private final long amperage;
+    private final EnergyContainerHandler energyContainer;
+
+    public HeadlessEnergySource(String metaTileEntityId, long voltage, long amperage) {
+        super(metaTileEntityId);
+        this.voltage = voltage;
+        this.amperage = amperage;
+        this.energyContainer = EnergyContainerHandler.emitterContainer(this, voltage * amperage * 4L, voltage, amperage);
+    }
+
+    @Override
+    public MetaTileEntity createMetaTileEntity(MetaTileEntityHolder holder) {
+        return new HeadlessEnergySource(metaTileEntityId, voltage, amperage);
+    }
+
+    @Override
+    public void update() {
+        if (!getWorld().isRemote) {
+            energyContainer.setEnergyStored(energyContainer.getEnergyCapacity());
+        }
+        super.update();
+    }
+
+    @Override
+    protected ModularUI createUI(EntityPlayer entityPlayer) {
+        return null;
+    }
+}
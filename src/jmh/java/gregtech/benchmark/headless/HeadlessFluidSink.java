@@ -0,0 +1,43 @@
+package gregtech.benchmark.headless;
+
+import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.gui.ModularUI;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraftforge.fluids.FluidTank;
+
+/**
+ * Accepts fluids from all sides and voids them every tick
+ */
+public class HeadlessFluidSink extends MetaTileEntity {
+
+    private static final int TANK_CAPACITY = 16000;
+
+    public HeadlessFluidSink(String metaTileEntityId) {
+        super(metaTileEntityId);
+    }
+
+    @Override
+    public MetaTileEntity createMetaTileEntity(MetaTileEntityHolder holder) {
+        return new HeadlessFluidSink(metaTileEntityId);
+    }
+
+    @Override
+    protected FluidTankList createImportFluidHandler() {
+        return new FluidTankList(false, new FluidTank(TANK_CAPACITY));
+    }
+
+    @Override
+    public void update() {
+        super.update();
+        if (!getWorld().isRemote) {
+            importFluids.drain(Integer.MAX_VALUE, true);
+        }
+    }
+
+    @Override
+    protected ModularUI createUI(EntityPlayer entityPlayer) {
+        return null;
+    }
+}
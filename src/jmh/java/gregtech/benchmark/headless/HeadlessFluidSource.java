@@ -0,0 +1,47 @@
+package gregtech.benchmark.headless;
+
+import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.gui.ModularUI;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+
+/**
+ * Infinite water source pushing water into handler at it's front facing every tick
+ */
+public class HeadlessFluidSource extends MetaTileEntity {
+
+    private static final int TANK_CAPACITY = 16000;
+    private static final FluidStack WATER = new FluidStack(FluidRegistry.WATER, TANK_CAPACITY);
+
+    public HeadlessFluidSource(String metaTileEntityId) {
+        super(metaTileEntityId);
+    }
+
+    @Override
+    public MetaTileEntity createMetaTileEntity(MetaTileEntityHolder holder) {
+        return new HeadlessFluidSource(metaTileEntityId);
+    }
+
+    @Override
+    protected FluidTankList createExportFluidHandler() {
+        return new FluidTankList(false, new FluidTank(TANK_CAPACITY));
+    }
+
+    @Override
+    public void update() {
+        super.update();
+        if (!getWorld().isRemote) {
+            exportFluids.fill(WATER, true);
+            pushFluidsIntoNearbyHandlers(getFrontFacing());
+        }
+    }
+
+    @Override
+    protected ModularUI createUI(EntityPlayer entityPlayer) {
+        return null;
+    }
+}
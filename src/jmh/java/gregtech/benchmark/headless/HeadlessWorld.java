@@ -0,0 +1,183 @@
+package gregtech.benchmark.headless;
+
+import gregtech.api.block.machines.BlockMachine;
+import gregtech.api.metatileentity.MetaTileEntity;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldInfo;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Server-side world backend for running meta tile entities, cables and pipes without minecraft server or client.<p>
+ *
+ * Block states and tile entities are kept in hash maps instead of chunks, every position counts as loaded,
+ * and there is no lighting, entities, players, saving or network. Block changes still call
+ * {@link Block#onBlockAdded}, {@link Block#breakBlock} and notify neighbours, so pipe nets and
+ * neighbour caches are maintained like in a real world. {@link #tick()} updates tickable tile entities
+ * in order they were added and advances world time.
+ */
+public class HeadlessWorld extends World {
+
+    private static final BlockMachine MACHINE_BLOCK = new BlockMachine();
+
+    private final Map<BlockPos, IBlockState> blockStates = new HashMap<>();
+    private final Map<BlockPos, TileEntity> tileEntities = new HashMap<>();
+    private final List<TileEntity> tickableTileEntities = new ArrayList<>();
+
+    public HeadlessWorld() {
+        super(null, new WorldInfo(new WorldSettings(0L, GameType.SURVIVAL, false, false, WorldType.FLAT), "headless"),
+            new HeadlessWorldProvider(), new Profiler(), false);
+        this.provider.setWorld(this);
+        this.chunkProvider = createChunkProvider();
+        this.mapStorage = new MapStorage(null);
+    }
+
+    /**
+     * Updates all tickable tile entities once and advances world time, like a server tick does
+     */
+    public void tick() {
+        for (int i = 0; i < tickableTileEntities.size(); i++) {
+            TileEntity tileEntity = tickableTileEntities.get(i);
+            if (!tileEntity.isInvalid()) {
+                ((ITickable) tileEntity).update();
+            }
+        }
+        this.worldInfo.setWorldTotalTime(worldInfo.getWorldTotalTime() + 1L);
+        this.worldInfo.setWorldTime(worldInfo.getWorldTime() + 1L);
+    }
+
+    /**
+     * Places machine block holding copy of given meta tile entity, like placing machine item does
+     * @return placed meta tile entity instance
+     */
+    public MetaTileEntity placeMetaTileEntity(BlockPos pos, MetaTileEntity sampleMetaTileEntity, EnumFacing frontFacing) {
+        setBlockState(pos, MACHINE_BLOCK.getDefaultState());
+        MetaTileEntityHolder holder = (MetaTileEntityHolder) getTileEntity(pos);
+        MetaTileEntity metaTileEntity = holder.setMetaTileEntity(sampleMetaTileEntity);
+        metaTileEntity.setFrontFacing(frontFacing);
+        notifyNeighborsOfStateChange(pos, MACHINE_BLOCK, true);
+        return metaTileEntity;
+    }
+
+    public int getTickableTileEntitiesCount() {
+        return tickableTileEntities.size();
+    }
+
+    @Override
+    protected IChunkProvider createChunkProvider() {
+        return new HeadlessChunkProvider(this);
+    }
+
+    @Override
+    protected boolean isChunkLoaded(int x, int z, boolean allowEmpty) {
+        return true;
+    }
+
+    @Override
+    public boolean isBlockLoaded(BlockPos pos, boolean allowEmpty) {
+        return true;
+    }
+
+    @Override
+    public IBlockState getBlockState(BlockPos pos) {
+        IBlockState blockState = blockStates.get(pos);
+        return blockState == null ? Blocks.AIR.getDefaultState() : blockState;
+    }
+
+    @Override
+    public boolean setBlockState(BlockPos pos, IBlockState newState, int flags) {
+        BlockPos immutablePos = pos.toImmutable();
+        IBlockState oldState = getBlockState(immutablePos);
+        if (oldState == newState) {
+            return false;
+        }
+        Block oldBlock = oldState.getBlock();
+        Block newBlock = newState.getBlock();
+        if (oldBlock != newBlock) {
+            oldBlock.breakBlock(this, immutablePos, oldState);
+            removeTileEntity(immutablePos);
+        }
+        if (newBlock == Blocks.AIR) {
+            blockStates.remove(immutablePos);
+        } else {
+            blockStates.put(immutablePos, newState);
+        }
+        if (oldBlock != newBlock) {
+            //same order as chunk uses, block may create it's tile entity itself in onBlockAdded
+            newBlock.onBlockAdded(this, immutablePos, newState);
+            if (newBlock.hasTileEntity(newState) && getTileEntity(immutablePos) == null) {
+                setTileEntity(immutablePos, newBlock.createTileEntity(this, newState));
+            }
+        } else {
+            TileEntity tileEntity = getTileEntity(immutablePos);
+            if (tileEntity != null) {
+                tileEntity.updateContainingBlockInfo();
+            }
+        }
+        if ((flags & 1) != 0) {
+            notifyNeighborsOfStateChange(immutablePos, newBlock, true);
+        }
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public TileEntity getTileEntity(BlockPos pos) {
+        return tileEntities.get(pos);
+    }
+
+    @Override
+    public void setTileEntity(BlockPos pos, @Nullable TileEntity tileEntity) {
+        BlockPos immutablePos = pos.toImmutable();
+        removeTileEntity(immutablePos);
+        if (tileEntity == null) {
+            return;
+        }
+        tileEntity.setWorld(this);
+        tileEntity.setPos(immutablePos);
+        tileEntity.validate();
+        tileEntities.put(immutablePos, tileEntity);
+        if (tileEntity instanceof ITickable) {
+            tickableTileEntities.add(tileEntity);
+        }
+        tileEntity.onLoad();
+    }
+
+    @Override
+    public void removeTileEntity(BlockPos pos) {
+        TileEntity tileEntity = tileEntities.remove(pos);
+        if (tileEntity != null) {
+            tileEntity.invalidate();
+            tickableTileEntities.remove(tileEntity);
+        }
+    }
+
+    @Override
+    public void markChunkDirty(BlockPos pos, TileEntity unusedTileEntity) {
+        //nothing is saved
+    }
+
+    @Override
+    public boolean checkLight(BlockPos pos) {
+        //there is no lighting
+        return true;
+    }
+}
@@ -0,0 +1,22 @@
+package gregtech.benchmark.headless;
+
+import net.minecraft.init.Biomes;
+import net.minecraft.world.DimensionType;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.biome.BiomeProviderSingle;
+
+/**
+ * Overworld provider of {@link HeadlessWorld}, which skips biome generator setup
+ */
+public class HeadlessWorldProvider extends WorldProvider {
+
+    @Override
+    protected void init() {
+        this.biomeProvider = new BiomeProviderSingle(Biomes.PLAINS);
+    }
+
+    @Override
+    public DimensionType getDimensionType() {
+        return DimensionType.OVERWORLD;
+    }
+}
@@ -252,6 +252,22 @@ public class BlockMachine extends Block implements ITileEntityProvider {
         return metaTileEntity.onRightClick(playerIn, hand, facing, hitX, hitY, hitZ);
     }
 
+    @Override
+    public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos) {
+        MetaTileEntity metaTileEntity = getMetaTileEntity(worldIn, pos);
+        if(metaTileEntity != null) {
+            metaTileEntity.onNeighborChanged();
+        }
+    }
+
+    @Override
+    public void onNeighborChange(IBlockAccess world, BlockPos pos, BlockPos neighbor) {
+        MetaTileEntity metaTileEntity = getMetaTileEntity(world, pos);
+        if(metaTileEntity != null) {
+            metaTileEntity.onNeighborChanged();
+        }
+    }
+
     @Override
     public void onBlockClicked(World worldIn, BlockPos pos, EntityPlayer playerIn) {
         MetaTileEntity metaTileEntity = getMetaTileEntity(worldIn, pos);
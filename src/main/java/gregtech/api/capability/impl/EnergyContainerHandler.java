@@ -9,7 +9,6 @@ import gregtech.api.util.GTUtility;
 import gregtech.common.ConfigHolder;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.common.capabilities.Capability;
@@ -68,6 +67,11 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
         return GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER;
     }
 
+    @Override
+    protected boolean isNBTCacheable() {
+        return true;
+    }
+
     @Override
     public NBTTagCompound serializeNBT() {
         NBTTagCompound compound = new NBTTagCompound();
@@ -86,9 +90,14 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
     }
 
     public void setEnergyStored(long energyStored) {
+        long oldEnergyStored = this.energyStored;
         this.energyStored = energyStored;
+        markNBTDirty();
         if(!metaTileEntity.getWorld().isRemote) {
             metaTileEntity.markDirty();
+            if(energyStored > oldEnergyStored) {
+                metaTileEntity.wakeUp();
+            }
             if(metaTileEntity instanceof IEnergyChangeListener) {
                 ((IEnergyChangeListener) metaTileEntity).onEnergyChanged(this);
             }
@@ -114,21 +123,23 @@ public class EnergyContainerHandler extends MTETrait implements IEnergyContainer
     public void update() {
         if (getMetaTileEntity().getWorld().isRemote)
             return;
-        if(getEnergyStored() >= getOutputVoltage() && getOutputVoltage() > 0 && getOutputAmperage() > 0) {
+        if(getOutputVoltage() <= 0 || getOutputAmperage() <= 0) {
+            //input-only container has nothing to do on update
+            sleep();
+            return;
+        }
+        if(getEnergyStored() >= getOutputVoltage()) {
             long outputVoltage = getOutputVoltage();
             long outputAmperes = Math.min(getEnergyStored() / outputVoltage, getOutputAmperage());
             if(outputAmperes == 0) return;
             long amperesUsed = 0;
             for(EnumFacing side : EnumFacing.VALUES) {
                 if(!outputsEnergy(side)) continue;
-                TileEntity tileEntity = metaTileEntity.getWorld().getTileEntity(metaTileEntity.getPos().offset(side));
+                IEnergyContainer energyContainer = metaTileEntity.getNeighborEnergyContainer(side);
                 EnumFacing oppositeSide = side.getOpposite();
-                if(tileEntity != null && tileEntity.hasCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, oppositeSide)) {
-                    IEnergyContainer energyContainer = tileEntity.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, oppositeSide);
-                    if(energyContainer == null || !energyContainer.inputsEnergy(oppositeSide)) continue;
-                    amperesUsed += energyContainer.acceptEnergyFromNetwork(oppositeSide, outputVoltage, outputAmperes - amperesUsed);
-                    if(amperesUsed == outputAmperes) break;
-                }
+                if(energyContainer == null || !energyContainer.inputsEnergy(oppositeSide)) continue;
+                amperesUsed += energyContainer.acceptEnergyFromNetwork(oppositeSide, outputVoltage, outputAmperes - amperesUsed);
+                if(amperesUsed == outputAmperes) break;
             }
             if(amperesUsed > 0) {
                 setEnergyStored(getEnergyStored() - amperesUsed * outputVoltage);
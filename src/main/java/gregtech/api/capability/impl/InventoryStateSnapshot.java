@@ -0,0 +1,124 @@
+package gregtech.api.capability.impl;
+
+import gregtech.api.capability.IMultipleTankHandler;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.items.IItemHandler;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Remembers contents of item handler and fluid tanks to detect whenever they have changed since.
+ * Contents are compared by value, so it also detects stacks that were mutated in place
+ * (e.g. by container slot merging or recipe input consumption), which change notifications don't catch.
+ * Recording and comparing does not allocate unless handler size has grown.
+ */
+public class InventoryStateSnapshot {
+
+    private IItemHandler itemHandler;
+    private IMultipleTankHandler fluidHandler;
+    private boolean isValid = false;
+
+    private int slots;
+    private Item[] items = new Item[0];
+    private int[] itemMetadata = new int[0];
+    private int[] itemCounts = new int[0];
+    private int[] itemTagHashes = new int[0];
+
+    private int tanks;
+    private Fluid[] fluids = new Fluid[0];
+    private int[] fluidAmounts = new int[0];
+    private int[] fluidTagHashes = new int[0];
+
+    public void invalidate() {
+        this.isValid = false;
+        this.itemHandler = null;
+        this.fluidHandler = null;
+        Arrays.fill(items, null);
+        Arrays.fill(fluids, null);
+    }
+
+    public boolean isValid() {
+        return isValid;
+    }
+
+    public void record(IItemHandler itemHandler, IMultipleTankHandler fluidHandler) {
+        this.itemHandler = itemHandler;
+        this.fluidHandler = fluidHandler;
+        this.slots = itemHandler.getSlots();
+        this.tanks = fluidHandler.getTanks();
+        ensureCapacity(slots, tanks);
+        for (int i = 0; i < slots; i++) {
+            ItemStack itemStack = itemHandler.getStackInSlot(i);
+            boolean isEmpty = itemStack.isEmpty();
+            this.items[i] = isEmpty ? null : itemStack.getItem();
+            this.itemMetadata[i] = isEmpty ? 0 : itemStack.getMetadata();
+            this.itemCounts[i] = isEmpty ? 0 : itemStack.getCount();
+            this.itemTagHashes[i] = isEmpty ? 0 : tagHash(itemStack.getTagCompound());
+        }
+        for (int i = 0; i < tanks; i++) {
+            FluidStack fluidStack = fluidHandler.getTankAt(i).getFluid();
+            boolean isEmpty = fluidStack == null || fluidStack.amount <= 0;
+            this.fluids[i] = isEmpty ? null : fluidStack.getFluid();
+            this.fluidAmounts[i] = isEmpty ? 0 : fluidStack.amount;
+            this.fluidTagHashes[i] = isEmpty ? 0 : tagHash(fluidStack.tag);
+        }
+        this.isValid = true;
+    }
+
+    /**
+     * @return true if snapshot is not valid, or given handlers are different from recorded ones,
+     * or if their contents differ from recorded contents
+     */
+    public boolean hasChanged(IItemHandler itemHandler, IMultipleTankHandler fluidHandler) {
+        if (!isValid || this.itemHandler != itemHandler || this.fluidHandler != fluidHandler ||
+            itemHandler.getSlots() != slots || fluidHandler.getTanks() != tanks) {
+            return true;
+        }
+        for (int i = 0; i < slots; i++) {
+            ItemStack itemStack = itemHandler.getStackInSlot(i);
+            if (itemStack.isEmpty()) {
+                if (items[i] != null) return true;
+            } else if (items[i] != itemStack.getItem() ||
+                itemMetadata[i] != itemStack.getMetadata() ||
+                itemCounts[i] != itemStack.getCount() ||
+                itemTagHashes[i] != tagHash(itemStack.getTagCompound())) {
+                return true;
+            }
+        }
+        for (int i = 0; i < tanks; i++) {
+            FluidStack fluidStack = fluidHandler.getTankAt(i).getFluid();
+            if (fluidStack == null || fluidStack.amount <= 0) {
+                if (fluids[i] != null) return true;
+            } else if (fluids[i] != fluidStack.getFluid() ||
+                fluidAmounts[i] != fluidStack.amount ||
+                fluidTagHashes[i] != tagHash(fluidStack.tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void ensureCapacity(int slots, int tanks) {
+        if (items.length < slots) {
+            this.items = new Item[slots];
+            this.itemMetadata = new int[slots];
+            this.itemCounts = new int[slots];
+            this.itemTagHashes = new int[slots];
+        }
+        if (fluids.length < tanks) {
+            this.fluids = new Fluid[tanks];
+            this.fluidAmounts = new int[tanks];
+            this.fluidTagHashes = new int[tanks];
+        }
+    }
+
+    private static int tagHash(@Nullable NBTTagCompound tagCompound) {
+        return Objects.hashCode(tagCompound);
+    }
+}
@@ -3,11 +3,19 @@ package gregtech.api.capability.impl;
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.capability.IMultipleTankHandler;
 import gregtech.api.metatileentity.multiblock.RecipeMapMultiblockController;
+import gregtech.api.recipes.CountableIngredient;
 import gregtech.api.recipes.Recipe;
+import gregtech.api.recipes.RecipeScaler;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.IFluidTank;
 import net.minecraftforge.items.IItemHandlerModifiable;
+import net.minecraftforge.items.ItemHandlerHelper;
 
 public class MultiblockRecipeMapWorkable extends RecipeMapWorkableHandler {
 
+    private int parallelRecipesPerformed;
 
     public MultiblockRecipeMapWorkable(RecipeMapMultiblockController tileEntity) {
         super(tileEntity, tileEntity.recipeMap);
@@ -18,7 +26,10 @@ public class MultiblockRecipeMapWorkable extends RecipeMapWorkableHandler {
     }
 
     public void updateWorkable() {
-        super.update();
+        //workable is updated by controller directly, so sleeping state is checked here
+        if (!isSleeping()) {
+            super.update();
+        }
     }
 
     public IEnergyContainer getEnergyContainer() {
@@ -50,6 +61,90 @@ public class MultiblockRecipeMapWorkable extends RecipeMapWorkableHandler {
         return controller.getOutputFluidInventory();
     }
 
+    public int getParallelRecipesPerformed() {
+        return progressTime > 0 ? parallelRecipesPerformed : 0;
+    }
+
+    /**
+     * Scales matched recipe to run as many copies of it at once as multiblock allows,
+     * limited by available energy, inputs and output space.
+     * Limits are computed without creating scaled recipes, so only the resulting recipe is created
+     */
+    @Override
+    protected Recipe prepareRecipe(Recipe recipe) {
+        RecipeMapMultiblockController controller = (RecipeMapMultiblockController) metaTileEntity;
+        int maxParallel = Math.min(controller.getMaxParallelRecipes(), getMaxParallelByEnergy(recipe));
+        if(maxParallel > 1) {
+            maxParallel = Math.min(maxParallel, getMaxParallelByInputs(recipe));
+        }
+        int parallel = 1;
+        //binary search for the biggest amount of copies inputs can provide and outputs can fit,
+        //since ingredients can share same slots and outputs compete for same free slots and tanks
+        int lowerBound = 2;
+        int upperBound = maxParallel;
+        OutputSpace outputSpace = lowerBound <= upperBound ? new OutputSpace(getOutputInventory(), getOutputTank()) : null;
+        while(lowerBound <= upperBound) {
+            int currentParallel = (lowerBound + upperBound) >>> 1;
+            if(outputSpace.canFitOutputs(recipe, currentParallel) &&
+                recipe.matchesScaled(getInputInventory(), getInputTank(), currentParallel)) {
+                parallel = currentParallel;
+                lowerBound = currentParallel + 1;
+            } else {
+                upperBound = currentParallel - 1;
+            }
+        }
+        this.parallelRecipesPerformed = parallel;
+        return RecipeScaler.scaleRecipe(recipe, parallel);
+    }
+
+    private int getMaxParallelByEnergy(Recipe recipe) {
+        long recipeEUt = Math.abs((long) recipe.getEUt());
+        if(recipeEUt == 0L)
+            return Integer.MAX_VALUE;
+        //energy hatches provide their voltage at their amperage every tick, generators emit it the same way
+        IEnergyContainer energyContainer = getEnergyContainer();
+        long maxEUt = recipe.getEUt() > 0 ?
+            energyContainer.getInputVoltage() * energyContainer.getInputAmperage() :
+            energyContainer.getOutputVoltage() * energyContainer.getOutputAmperage();
+        //scaled recipe EU/t should also fit into integer
+        return (int) Math.min(Integer.MAX_VALUE / recipeEUt, maxEUt / recipeEUt);
+    }
+
+    /**
+     * Calculates upper bound of recipe copies available inputs can provide.
+     * It doesn't account for ingredients sharing same slots, so result should be verified
+     */
+    private int getMaxParallelByInputs(Recipe recipe) {
+        IItemHandlerModifiable inputInventory = getInputInventory();
+        IMultipleTankHandler inputTank = getInputTank();
+        int maxParallel = Integer.MAX_VALUE;
+        for(CountableIngredient ingredient : recipe.getInputs()) {
+            if(ingredient.getCount() == 0) continue;
+            int amountAvailable = 0;
+            for(int i = 0; i < inputInventory.getSlots(); i++) {
+                ItemStack stackInSlot = inputInventory.getStackInSlot(i);
+                if(!stackInSlot.isEmpty() && ingredient.getIngredient().apply(stackInSlot)) {
+                    amountAvailable += stackInSlot.getCount();
+                }
+            }
+            maxParallel = Math.min(maxParallel, amountAvailable / ingredient.getCount());
+        }
+        for(FluidStack fluidInput : recipe.getFluidInputs()) {
+            if(fluidInput.amount == 0) continue;
+            long amountAvailable = 0L;
+            for(int i = 0; i < inputTank.getTanks(); i++) {
+                FluidStack fluidInTank = inputTank.getTankAt(i).getFluid();
+                if(fluidInTank != null && fluidInTank.isFluidEqual(fluidInput)) {
+                    amountAvailable += fluidInTank.amount;
+                }
+            }
+            //scaled fluid amounts should fit into integer too
+            amountAvailable = Math.min(amountAvailable, Integer.MAX_VALUE);
+            maxParallel = (int) Math.min(maxParallel, amountAvailable / fluidInput.amount);
+        }
+        return maxParallel;
+    }
+
     @Override
     protected boolean setupAndConsumeRecipeInputs(Recipe recipe) {
         RecipeMapMultiblockController controller = (RecipeMapMultiblockController) metaTileEntity;
@@ -60,6 +155,19 @@ public class MultiblockRecipeMapWorkable extends RecipeMapWorkableHandler {
         } else return false;
     }
 
+    @Override
+    public NBTTagCompound serializeNBT() {
+        NBTTagCompound compound = super.serializeNBT();
+        compound.setInteger("Parallel", parallelRecipesPerformed);
+        return compound;
+    }
+
+    @Override
+    public void deserializeNBT(NBTTagCompound compound) {
+        super.deserializeNBT(compound);
+        this.parallelRecipesPerformed = compound.getInteger("Parallel");
+    }
+
     @Override
     protected long getEnergyStored() {
         return getEnergyContainer().getEnergyStored();
@@ -83,4 +191,103 @@ public class MultiblockRecipeMapWorkable extends RecipeMapWorkableHandler {
     protected long getMaxVoltage() {
         return Math.max(getEnergyContainer().getInputVoltage(), getEnergyContainer().getOutputVoltage());
     }
+
+    /**
+     * Free space of output slots and tanks, used to check if outputs of scaled recipe fit all together.
+     * Outputs are placed the same way as items are inserted with {@link ItemHandlerHelper#insertItemStacked}
+     * and fluids are filled into {@link FluidTankList}: into slots and tanks with the same contents first, then into empty ones.
+     * Inventory state is captured once, so checking different amounts of copies doesn't query or copy inventory again
+     */
+    private static class OutputSpace {
+
+        private final ItemStack[] slotStacks;
+        //free space of non-empty slots, or slot limit of empty ones
+        private final int[] slotSpace;
+        private final FluidStack[] tankFluids;
+        private final int[] tankSpace;
+        //state of slots and tanks while outputs are placed
+        private final ItemStack[] placedStacks;
+        private final int[] placedSlotSpace;
+        private final FluidStack[] placedFluids;
+        private final int[] placedTankSpace;
+
+        private OutputSpace(IItemHandlerModifiable outputInventory, IMultipleTankHandler outputTank) {
+            int slots = outputInventory.getSlots();
+            this.slotStacks = new ItemStack[slots];
+            this.slotSpace = new int[slots];
+            for(int i = 0; i < slots; i++) {
+                ItemStack stackInSlot = outputInventory.getStackInSlot(i);
+                int slotLimit = outputInventory.getSlotLimit(i);
+                this.slotStacks[i] = stackInSlot;
+                this.slotSpace[i] = stackInSlot.isEmpty() ? slotLimit :
+                    Math.max(0, Math.min(slotLimit, stackInSlot.getMaxStackSize()) - stackInSlot.getCount());
+            }
+            int tanks = outputTank.getTanks();
+            this.tankFluids = new FluidStack[tanks];
+            this.tankSpace = new int[tanks];
+            for(int i = 0; i < tanks; i++) {
+                IFluidTank fluidTank = outputTank.getTankAt(i);
+                FluidStack fluidInTank = fluidTank.getFluid();
+                this.tankFluids[i] = fluidInTank == null || fluidInTank.amount == 0 ? null : fluidInTank;
+                this.tankSpace[i] = fluidTank.getCapacity() - fluidTank.getFluidAmount();
+            }
+            this.placedStacks = new ItemStack[slots];
+            this.placedSlotSpace = new int[slots];
+            this.placedFluids = new FluidStack[tanks];
+            this.placedTankSpace = new int[tanks];
+        }
+
+        private boolean canFitOutputs(Recipe recipe, int parallel) {
+            System.arraycopy(slotStacks, 0, placedStacks, 0, slotStacks.length);
+            System.arraycopy(slotSpace, 0, placedSlotSpace, 0, slotSpace.length);
+            System.arraycopy(tankFluids, 0, placedFluids, 0, tankFluids.length);
+            System.arraycopy(tankSpace, 0, placedTankSpace, 0, tankSpace.length);
+            for(ItemStack output : recipe.getOutputs()) {
+                if(!placeItems(output, (long) output.getCount() * parallel)) return false;
+            }
+            for(FluidStack fluidOutput : recipe.getFluidOutputs()) {
+                if(!placeFluid(fluidOutput, (long) fluidOutput.amount * parallel)) return false;
+            }
+            return true;
+        }
+
+        private boolean placeItems(ItemStack output, long amount) {
+            for(int i = 0; i < placedStacks.length && amount > 0; i++) {
+                if(!placedStacks[i].isEmpty() && ItemHandlerHelper.canItemStacksStack(placedStacks[i], output)) {
+                    int amountPlaced = (int) Math.min(placedSlotSpace[i], amount);
+                    placedSlotSpace[i] -= amountPlaced;
+                    amount -= amountPlaced;
+                }
+            }
+            for(int i = 0; i < placedStacks.length && amount > 0; i++) {
+                if(placedStacks[i].isEmpty()) {
+                    placedStacks[i] = output;
+                    placedSlotSpace[i] = Math.min(placedSlotSpace[i], output.getMaxStackSize());
+                    int amountPlaced = (int) Math.min(placedSlotSpace[i], amount);
+                    placedSlotSpace[i] -= amountPlaced;
+                    amount -= amountPlaced;
+                }
+            }
+            return amount <= 0;
+        }
+
+        private boolean placeFluid(FluidStack fluidOutput, long amount) {
+            for(int i = 0; i < placedFluids.length && amount > 0; i++) {
+                if(fluidOutput.isFluidEqual(placedFluids[i])) {
+                    int amountPlaced = (int) Math.min(placedTankSpace[i], amount);
+                    placedTankSpace[i] -= amountPlaced;
+                    amount -= amountPlaced;
+                }
+            }
+            for(int i = 0; i < placedFluids.length && amount > 0; i++) {
+                if(placedFluids[i] == null) {
+                    placedFluids[i] = fluidOutput;
+                    int amountPlaced = (int) Math.min(placedTankSpace[i], amount);
+                    placedTankSpace[i] -= amountPlaced;
+                    amount -= amountPlaced;
+                }
+            }
+            return amount <= 0;
+        }
+    }
 }
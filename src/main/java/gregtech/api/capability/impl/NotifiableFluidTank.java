@@ -0,0 +1,21 @@
+package gregtech.api.capability.impl;
+
+import gregtech.api.metatileentity.MetaTileEntity;
+
+/**
+ * Fluid tank which wakes up owning meta tile entity whenever it's contents change
+ */
+public class NotifiableFluidTank extends FilteredFluidHandler {
+
+    private final MetaTileEntity entityToNotify;
+
+    public NotifiableFluidTank(int capacity, MetaTileEntity entityToNotify) {
+        super(capacity);
+        this.entityToNotify = entityToNotify;
+    }
+
+    @Override
+    protected void onContentsChanged() {
+        entityToNotify.wakeUp();
+    }
+}
@@ -0,0 +1,22 @@
+package gregtech.api.capability.impl;
+
+import gregtech.api.metatileentity.MetaTileEntity;
+import net.minecraftforge.items.ItemStackHandler;
+
+/**
+ * Item stack handler which wakes up owning meta tile entity whenever it's contents change
+ */
+public class NotifiableItemStackHandler extends ItemStackHandler {
+
+    private final MetaTileEntity entityToNotify;
+
+    public NotifiableItemStackHandler(int slots, MetaTileEntity entityToNotify) {
+        super(slots);
+        this.entityToNotify = entityToNotify;
+    }
+
+    @Override
+    protected void onContentsChanged(int slot) {
+        entityToNotify.wakeUp();
+    }
+}
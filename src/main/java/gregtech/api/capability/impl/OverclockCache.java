@@ -0,0 +1,82 @@
+package gregtech.api.capability.impl;
+
+import gregtech.api.GTValues;
+
+/**
+ * Shared table of overclocking results, keyed by recipe EU/t, duration, overclocking tier and amperage.
+ * Overclock result only depends on these values, so it is computed once and reused by all machines.<p>
+ *
+ * Table is direct-mapped: colliding entries overwrite each other, so it never grows.
+ * Entries are immutable, so it is safe to read and fill table from multiple threads.
+ * Returned arrays are shared and must not be modified.
+ */
+public class OverclockCache {
+
+    private static final int TABLE_SIZE = 4096;
+    private static final Entry[] entries = new Entry[TABLE_SIZE];
+
+    /**
+     * @return array of overclocked EU/t and duration. Array is shared and must not be modified
+     */
+    public static int[] getOverclock(int EUt, int tier, long amperage, int duration) {
+        int slot = (hash(EUt, tier, amperage, duration) & 0x7FFFFFFF) % TABLE_SIZE;
+        Entry entry = entries[slot];
+        if (entry != null && entry.EUt == EUt && entry.tier == tier &&
+            entry.amperage == amperage && entry.duration == duration) {
+            return entry.result;
+        }
+        int[] result = computeOverclock(EUt, tier, amperage, duration);
+        entries[slot] = new Entry(EUt, tier, amperage, duration, result);
+        return result;
+    }
+
+    private static int[] computeOverclock(int EUt, int tier, long amperage, int duration) {
+        boolean negativeEU = EUt < 0;
+        if(GTValues.V[tier] <= EUt || tier == 0)
+            return new int[] {EUt, duration};
+        if(negativeEU)
+            EUt = -EUt;
+        if (EUt <= 16) {
+            int multiplier = tier - 1;
+            int resultEUt = EUt * (1 << multiplier) * (1 << multiplier);
+            int resultDuration = duration / (1 << multiplier);
+            return new int[] {negativeEU ? -resultEUt : resultEUt, resultDuration};
+        } else {
+            int resultEUt = EUt;
+            double resultDuration = duration;
+            double durationMultiplier = negativeEU ? 3.80 : 2.0;
+            //do not overclock further if duration is already too small
+            while (resultDuration >= durationMultiplier && resultEUt <= GTValues.V[tier - 1] * amperage) {
+                resultEUt *= 4;
+                resultDuration /= durationMultiplier;
+            }
+            return new int[] {negativeEU ? -resultEUt : resultEUt, (int) Math.floor(resultDuration)};
+        }
+    }
+
+    private static int hash(int EUt, int tier, long amperage, int duration) {
+        int hash = EUt;
+        hash = hash * 31 + duration;
+        hash = hash * 31 + tier;
+        hash = hash * 31 + (int) (amperage ^ (amperage >>> 32));
+        //spread higher bits, because EU/t and durations are usually round numbers
+        return hash ^ (hash >>> 16);
+    }
+
+    private static class Entry {
+
+        private final int EUt;
+        private final int tier;
+        private final long amperage;
+        private final int duration;
+        private final int[] result;
+
+        private Entry(int EUt, int tier, long amperage, int duration, int[] result) {
+            this.EUt = EUt;
+            this.tier = tier;
+            this.amperage = amperage;
+            this.duration = duration;
+            this.result = result;
+        }
+    }
+}
@@ -27,6 +27,9 @@ import java.util.Random;
 
 public abstract class RecipeMapWorkableHandler extends MTETrait implements IWorkable {
 
+    //interval in which idle workable wakes up by itself, in case some change was not notified
+    private static final int IDLE_WAKE_UP_INTERVAL = 40;
+
     public final RecipeMap<?> recipeMap;
     protected Recipe previousRecipe;
 
@@ -42,6 +45,13 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
     private boolean hasNotEnoughEnergy;
     private boolean wasActiveAndNeedsUpdate;
 
+    //state of inventories after last unsuccessful recipe search
+    //used to avoid searching for recipe again until something changes
+    private final InventoryStateSnapshot lastInputsState = new InventoryStateSnapshot();
+    private final InventoryStateSnapshot lastOutputsState = new InventoryStateSnapshot();
+    private long lastSearchVoltage;
+    private long lastSearchEnergyStored = -1L;
+
     public RecipeMapWorkableHandler(MetaTileEntity tileEntity, RecipeMap<?> recipeMap) {
         super(tileEntity);
         this.recipeMap = recipeMap;
@@ -105,24 +115,15 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
             }
         }
 
-        if(progressTime == 0 && workingEnabled) {
-            long maxVoltage = getMaxVoltage();
-            Recipe currentRecipe;
-            IItemHandlerModifiable importInventory = getInputInventory();
-            IMultipleTankHandler importFluids = getInputTank();
-            if(previousRecipe != null && previousRecipe.matches(false, importInventory, importFluids)) {
-                //if previous recipe still matches inputs, try to use it
-                currentRecipe = previousRecipe;
+        boolean searchDeferred = false;
+        //nothing changed since last unsuccessful search means it will fail again, so there is nothing to defer
+        if(progressTime == 0 && workingEnabled &&
+            shouldSearchForRecipe(getMaxVoltage(), getInputInventory(), getInputTank())) {
+            //recipes in progress above are never deferred, only search for a new one is
+            if(metaTileEntity.shouldRunDeferrableWork(MetaTileEntity.DEFERRABLE_RECIPE_SEARCH, 1)) {
+                trySearchNewRecipe();
             } else {
-                //else, try searching new recipe for given inputs
-                currentRecipe = findRecipe(maxVoltage, importInventory, importFluids);
-                //if we found recipe that can be buffered, buffer it
-                if(currentRecipe != null && currentRecipe.canBeBuffered()) {
-                    this.previousRecipe = currentRecipe;
-                }
-            }
-            if(currentRecipe != null && setupAndConsumeRecipeInputs(currentRecipe)) {
-                setupRecipe(currentRecipe);
+                searchDeferred = true;
             }
         }
 
@@ -130,6 +131,82 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
             this.wasActiveAndNeedsUpdate = false;
             setActive(false);
         }
+
+        if ((progressTime == 0 || !workingEnabled) && !searchDeferred && canFallAsleep()) {
+            //nothing to do until inventories, energy or working state change
+            sleep(IDLE_WAKE_UP_INTERVAL);
+        }
+    }
+
+    /**
+     * @return true if this workable has no periodic work besides running recipes,
+     * so it can sleep while it has no recipe to run
+     */
+    protected boolean canFallAsleep() {
+        return true;
+    }
+
+    /**
+     * Searches for a new recipe and starts it. Called only when {@link #shouldSearchForRecipe}
+     * reports that inventories or energy changed since last unsuccessful search
+     */
+    protected void trySearchNewRecipe() {
+        long maxVoltage = getMaxVoltage();
+        IItemHandlerModifiable importInventory = getInputInventory();
+        IMultipleTankHandler importFluids = getInputTank();
+        Recipe currentRecipe;
+        if(previousRecipe != null && previousRecipe.matches(false, importInventory, importFluids)) {
+            //if previous recipe still matches inputs, try to use it
+            currentRecipe = previousRecipe;
+        } else {
+            //else, try searching new recipe for given inputs
+            currentRecipe = findRecipe(maxVoltage, importInventory, importFluids);
+            //if we found recipe that can be buffered, buffer it
+            if(currentRecipe != null && currentRecipe.canBeBuffered()) {
+                this.previousRecipe = currentRecipe;
+            }
+        }
+        if(currentRecipe != null) {
+            currentRecipe = prepareRecipe(currentRecipe);
+        }
+        if(currentRecipe != null && setupAndConsumeRecipeInputs(currentRecipe)) {
+            setupRecipe(currentRecipe);
+            forceRecipeRecheck();
+        } else {
+            //remember state of inventories, so we can skip searching until they change
+            this.lastInputsState.record(importInventory, importFluids);
+            this.lastOutputsState.record(getOutputInventory(), getOutputTank());
+            this.lastSearchVoltage = maxVoltage;
+            //if recipe was found but can't be started, it may be waiting for energy too
+            this.lastSearchEnergyStored = currentRecipe == null ? -1L : getEnergyStored();
+        }
+    }
+
+    protected boolean shouldSearchForRecipe(long maxVoltage, IItemHandlerModifiable importInventory, IMultipleTankHandler importFluids) {
+        return maxVoltage != lastSearchVoltage ||
+            (lastSearchEnergyStored != -1L && getEnergyStored() != lastSearchEnergyStored) ||
+            lastInputsState.hasChanged(importInventory, importFluids) ||
+            lastOutputsState.hasChanged(getOutputInventory(), getOutputTank());
+    }
+
+    /**
+     * Forces this workable to search for recipe on next update even if
+     * inventories have not changed since last unsuccessful search.
+     * Call it when recipe search result depends on external state which has changed
+     */
+    public void forceRecipeRecheck() {
+        this.lastInputsState.invalidate();
+        this.lastOutputsState.invalidate();
+        metaTileEntity.wakeUp();
+    }
+
+    /**
+     * Called with matched recipe right before it's inputs are consumed
+     * Can be overridden to return a modified recipe which will be started instead
+     * Note that returned recipe is not buffered, original one is
+     */
+    protected Recipe prepareRecipe(Recipe recipe) {
+        return recipe;
     }
 
     protected Recipe findRecipe(long maxVoltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
@@ -155,29 +232,11 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
         return false;
     }
 
+    /**
+     * @return array of overclocked EU/t and duration. Returned array may be shared and must not be modified
+     */
     protected int[] calculateOverclock(int EUt, long voltage, long amperage, int duration, boolean consumeInputs) {
-        boolean negativeEU = EUt < 0;
-        int tier = getOverclockingTier(voltage);
-        if(GTValues.V[tier] <= EUt || tier == 0)
-            return new int[] {EUt, duration};
-        if(negativeEU)
-            EUt = -EUt;
-        if (EUt <= 16) {
-            int multiplier = tier - 1;
-            int resultEUt = EUt * (1 << multiplier) * (1 << multiplier);
-            int resultDuration = duration / (1 << multiplier);
-            return new int[] {negativeEU ? -resultEUt : resultEUt, resultDuration};
-        } else {
-            int resultEUt = EUt;
-            double resultDuration = duration;
-            double durationMultiplier = negativeEU ? 3.80 : 2.0;
-            //do not overclock further if duration is already too small
-            while (resultDuration >= durationMultiplier && resultEUt <= GTValues.V[tier - 1] * amperage) {
-                resultEUt *= 4;
-                resultDuration /= durationMultiplier;
-            }
-            return new int[] {negativeEU ? -resultEUt : resultEUt, (int) Math.floor(resultDuration)};
-        }
+        return OverclockCache.getOverclock(EUt, getOverclockingTier(voltage), amperage, duration);
     }
 
     protected int getOverclockingTier(long voltage) {
@@ -214,6 +273,8 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
         this.itemOutputs = null;
         this.hasNotEnoughEnergy = false;
         this.wasActiveAndNeedsUpdate = true;
+        //idle state cached before this run may contain state of previous run, like amount of parallel recipes
+        markNBTDirty();
     }
 
     public double getProgressPercent() {
@@ -270,6 +331,8 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
     @Override
     public void setWorkingEnabled(boolean workingEnabled) {
         this.workingEnabled = workingEnabled;
+        markNBTDirty();
+        forceRecipeRecheck();
         if(!metaTileEntity.getWorld().isRemote) {
             metaTileEntity.markDirty();
         }
@@ -307,6 +370,15 @@ public abstract class RecipeMapWorkableHandler extends MTETrait implements IWork
         this.isActive = buf.readBoolean();
     }
 
+    /**
+     * Only idle state is cached, because progress changes every tick while working
+     * and idle state consists of working enabled flag only
+     */
+    @Override
+    protected boolean isNBTCacheable() {
+        return progressTime == 0;
+    }
+
     @Override
     public NBTTagCompound serializeNBT() {
         NBTTagCompound compound = new NBTTagCompound();
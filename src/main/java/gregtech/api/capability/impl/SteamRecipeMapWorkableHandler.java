@@ -68,6 +68,8 @@ public class SteamRecipeMapWorkableHandler extends RecipeMapWorkableHandler {
         this.needsVenting = needsVenting;
         if(!needsVenting && ventingStuck)
             setVentingStuck(false);
+        if(!needsVenting)
+            forceRecipeRecheck();
         if(!metaTileEntity.getWorld().isRemote) {
             metaTileEntity.markDirty();
             writeCustomData(2, buf -> buf.writeBoolean(needsVenting));
@@ -141,12 +143,18 @@ public class SteamRecipeMapWorkableHandler extends RecipeMapWorkableHandler {
     public void update() {
         if (getMetaTileEntity().getWorld().isRemote)
             return;
-        if (this.needsVenting && metaTileEntity.getTimer() % 10 == 0) {
+        if (this.needsVenting && metaTileEntity.getOffsetTimer() % 10 == 0) {
             tryDoVenting();
         }
         super.update();
     }
 
+    @Override
+    protected boolean canFallAsleep() {
+        //venting is retried periodically, so stay awake until it succeeds
+        return !needsVenting;
+    }
+
     @Override
     protected boolean setupAndConsumeRecipeInputs(Recipe recipe) {
         return !this.needsVenting && super.setupAndConsumeRecipeInputs(recipe);
@@ -189,6 +197,12 @@ public class SteamRecipeMapWorkableHandler extends RecipeMapWorkableHandler {
         return GTValues.V[GTValues.LV];
     }
 
+    @Override
+    protected boolean isNBTCacheable() {
+        //venting state is serialized too, and it changes without marking NBT dirty
+        return false;
+    }
+
     @Override
     public NBTTagCompound serializeNBT() {
         NBTTagCompound compound = super.serializeNBT();
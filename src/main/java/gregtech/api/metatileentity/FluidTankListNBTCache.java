@@ -0,0 +1,53 @@
+package gregtech.api.metatileentity;
+
+import gregtech.api.capability.impl.FluidTankList;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+
+/**
+ * Keeps serialized contents of fluid tank list and reuses them while contents stay the same.
+ * Only lists consisting of {@link FluidTank}s are cached, because their serialized state is their fluid,
+ * other tanks are serialized every time. Returned tag is shared with previous saves and must not be modified
+ */
+class FluidTankListNBTCache {
+
+    private NBTTagCompound cachedTag;
+    private FluidStack[] snapshot;
+
+    NBTTagCompound serialize(FluidTankList fluidTankList) {
+        if(!canSnapshot(fluidTankList)) {
+            this.cachedTag = null;
+            return fluidTankList.serializeNBT();
+        }
+        if(cachedTag == null || !matchesSnapshot(fluidTankList)) {
+            this.cachedTag = fluidTankList.serializeNBT();
+            this.snapshot = new FluidStack[fluidTankList.getTanks()];
+            for(int i = 0; i < snapshot.length; i++) {
+                FluidStack fluidStack = fluidTankList.getTankAt(i).getFluid();
+                snapshot[i] = fluidStack == null ? null : fluidStack.copy();
+            }
+        }
+        //cached tag is never modified, changed contents are serialized into a new one
+        return cachedTag;
+    }
+
+    private static boolean canSnapshot(FluidTankList fluidTankList) {
+        for(int i = 0; i < fluidTankList.getTanks(); i++) {
+            if(!(fluidTankList.getTankAt(i) instanceof FluidTank))
+                return false;
+        }
+        return true;
+    }
+
+    private boolean matchesSnapshot(FluidTankList fluidTankList) {
+        if(fluidTankList.getTanks() != snapshot.length)
+            return false;
+        for(int i = 0; i < snapshot.length; i++) {
+            FluidStack fluidStack = fluidTankList.getTankAt(i).getFluid();
+            if(fluidStack == null ? snapshot[i] != null : !fluidStack.isFluidStackIdentical(snapshot[i]))
+                return false;
+        }
+        return true;
+    }
+}
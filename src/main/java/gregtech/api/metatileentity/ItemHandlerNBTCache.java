@@ -0,0 +1,40 @@
+package gregtech.api.metatileentity;
+
+import gregtech.api.util.GTUtility;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.items.IItemHandler;
+
+/**
+ * Keeps serialized contents of item handler and reuses them while contents stay the same.
+ * Contents are compared against snapshot taken on serialization instead of relying on
+ * change notifications, because stacks can be modified in place without notifying handler.
+ * Returned tag is shared with previous saves and must not be modified
+ */
+class ItemHandlerNBTCache {
+
+    private NBTTagList cachedTag;
+    private ItemStack[] snapshot;
+
+    NBTTagList serialize(IItemHandler handler) {
+        if(cachedTag == null || !matchesSnapshot(handler)) {
+            this.cachedTag = GTUtility.writeItems(handler);
+            this.snapshot = new ItemStack[handler.getSlots()];
+            for(int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = handler.getStackInSlot(i).copy();
+            }
+        }
+        //cached tag is never modified, changed contents are serialized into a new one
+        return cachedTag;
+    }
+
+    private boolean matchesSnapshot(IItemHandler handler) {
+        if(handler.getSlots() != snapshot.length)
+            return false;
+        for(int i = 0; i < snapshot.length; i++) {
+            if(!ItemStack.areItemStacksEqual(handler.getStackInSlot(i), snapshot[i]))
+                return false;
+        }
+        return true;
+    }
+}
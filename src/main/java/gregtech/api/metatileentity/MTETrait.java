@@ -12,6 +12,9 @@ import java.util.function.Consumer;
 public abstract class MTETrait {
 
     protected MetaTileEntity metaTileEntity;
+    private boolean isSleeping = false;
+    private long wakeUpTime;
+    private NBTTagCompound cachedNBT;
 
     public MTETrait(MetaTileEntity metaTileEntity) {
         this.metaTileEntity = metaTileEntity;
@@ -38,6 +41,42 @@ public abstract class MTETrait {
     public void update() {
     }
 
+    /**
+     * Puts this trait to sleep until it is woken up by {@link MetaTileEntity#wakeUp()}.
+     * Sleeping traits are not updated. Meta tile entity wakes up all it's traits when
+     * it's inventory changes, it receives energy, neighbour block changes or player interacts with it
+     */
+    public void sleep() {
+        this.isSleeping = true;
+        this.wakeUpTime = Long.MAX_VALUE;
+    }
+
+    /**
+     * Puts this trait to sleep for given amount of ticks, or until it is woken up earlier
+     */
+    public void sleep(int ticks) {
+        this.isSleeping = true;
+        this.wakeUpTime = metaTileEntity.getWorld().getTotalWorldTime() + ticks;
+    }
+
+    public void wakeUp() {
+        this.isSleeping = false;
+    }
+
+    public boolean isSleeping() {
+        if (isSleeping && metaTileEntity.getWorld().getTotalWorldTime() >= wakeUpTime) {
+            this.isSleeping = false;
+        }
+        return isSleeping;
+    }
+
+    /**
+     * @return world time when this trait wakes up by itself, or Long.MAX_VALUE if it sleeps until woken up
+     */
+    public long getWakeUpTime() {
+        return wakeUpTime;
+    }
+
     public NBTTagCompound serializeNBT() {
         return new NBTTagCompound();
     }
@@ -45,6 +84,34 @@ public abstract class MTETrait {
     public void deserializeNBT(NBTTagCompound compound) {
     }
 
+    /**
+     * Determines whenever result of {@link #serializeNBT()} can be cached and reused on next save.
+     * Traits returning true must call {@link #markNBTDirty()} whenever their serialized state changes
+     * Returns false by default, so traits are serialized on every save unless they opt in
+     */
+    protected boolean isNBTCacheable() {
+        return false;
+    }
+
+    /**
+     * Drops cached serialized state of this trait, so it will be serialized again on next save
+     */
+    protected void markNBTDirty() {
+        this.cachedNBT = null;
+    }
+
+    final NBTTagCompound getSerializedNBT() {
+        if(!isNBTCacheable()) {
+            this.cachedNBT = null;
+            return serializeNBT();
+        }
+        if(cachedNBT == null) {
+            this.cachedNBT = serializeNBT();
+        }
+        //cached tag is never modified, trait is serialized into a new one once marked dirty
+        return cachedNBT;
+    }
+
     public void writeInitialData(PacketBuffer buffer) {
     }
 
@@ -56,7 +123,7 @@ public abstract class MTETrait {
 
     public final void writeCustomData(int id, Consumer<PacketBuffer> writer) {
         Preconditions.checkElementIndex(id, 100, "Only 0-100 sync ids allowed");
-        metaTileEntity.writeCustomData(-4, buffer -> {
+        metaTileEntity.writeCustomData(-4, getName() + ":" + id, buffer -> {
             buffer.writeString(getName());
             buffer.writeInt(id);
             writer.accept(buffer);
@@ -8,12 +8,15 @@ import codechicken.lib.vec.Cuboid6;
 import codechicken.lib.vec.Matrix4;
 import com.google.common.base.Preconditions;
 import gregtech.api.GregTechAPI;
+import gregtech.api.capability.GregtechCapabilities;
+import gregtech.api.capability.IEnergyContainer;
 import gregtech.api.capability.impl.FluidHandlerProxy;
 import gregtech.api.capability.impl.FluidTankList;
 import gregtech.api.capability.impl.ItemHandlerProxy;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.render.Textures;
 import gregtech.api.util.GTUtility;
+import gregtech.common.ConfigHolder;
 import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -42,13 +45,23 @@ import org.apache.commons.lang3.ArrayUtils;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 public abstract class MetaTileEntity {
 
     public static final Cuboid6[] FULL_CUBE_COLLISION = new Cuboid6[] {Cuboid6.full};
 
+    //ids of low priority periodic work, see shouldRunDeferrableWork
+    public static final int DEFERRABLE_AUTO_OUTPUT = 0;
+    public static final int DEFERRABLE_STRUCTURE_CHECK = 1;
+    public static final int DEFERRABLE_PUMP_SCAN = 2;
+    public static final int DEFERRABLE_RECIPE_SEARCH = 3;
+    public static final int DEFERRABLE_PUMP_HEAD_STEP = 4;
+    public static final int DEFERRABLE_PUMP_QUEUE_REBUILD = 5;
+
     public final String metaTileEntityId;
     MetaTileEntityHolder holder;
 
@@ -63,6 +76,8 @@ public abstract class MetaTileEntity {
     protected IFluidHandler fluidInventory;
 
     protected List<MTETrait> mteTraits = new ArrayList<>();
+    //first trait implementing each capability, null until first query after trait is added
+    private Map<Capability<?>, MTETrait> traitsByCapability;
 
     protected EnumFacing frontFacing = EnumFacing.NORTH;
     protected int paintingColor = 0xFFFFFF;
@@ -70,6 +85,30 @@ public abstract class MetaTileEntity {
     private int[] sidedRedstoneOutput = new int[6];
     private int cachedComparatorValue;
 
+    private boolean isSleeping = false;
+    private long wakeUpTime;
+
+    //bits of deferrable work ids that were due but deferred by exhausted tick budget
+    private int pendingDeferrableWork;
+    //by work id, tick work was first deferred at and last tick it was requested while deferred, allocated on first deferral
+    private long[] workDeferredSince;
+    private long[] workLastRequested;
+
+    private final ItemHandlerNBTCache importItemsNBTCache = new ItemHandlerNBTCache();
+    private final ItemHandlerNBTCache exportItemsNBTCache = new ItemHandlerNBTCache();
+    private final FluidTankListNBTCache importFluidsNBTCache = new FluidTankListNBTCache();
+    private final FluidTankListNBTCache exportFluidsNBTCache = new FluidTankListNBTCache();
+
+    //neighbor lookup results by facing index, valid only for facings set in corresponding mask
+    private final TileEntity[] neighborTileEntities = new TileEntity[6];
+    private final IItemHandler[] neighborItemHandlers = new IItemHandler[6];
+    private final IFluidHandler[] neighborFluidHandlers = new IFluidHandler[6];
+    private final IEnergyContainer[] neighborEnergyContainers = new IEnergyContainer[6];
+    private int cachedNeighborsMask;
+    private int cachedItemHandlersMask;
+    private int cachedFluidHandlersMask;
+    private int cachedEnergyContainersMask;
+
     public MetaTileEntity(String metaTileEntityId) {
         this.metaTileEntityId = metaTileEntityId;
         initializeInventory();
@@ -108,12 +147,88 @@ public abstract class MetaTileEntity {
         return holder == null ? 0L : holder.getTimer();
     }
 
+    /**
+     * @see TickableTileEntityBase#getOffsetTimer()
+     */
+    public long getOffsetTimer() {
+        return holder == null ? 0L : holder.getOffsetTimer();
+    }
+
+    /**
+     * Determines whenever low priority periodic work should run in this tick.
+     * Work is due every period ticks of {@link #getOffsetTimer()}. If dimension has exhausted
+     * it's {@link TickBudget}, due work is deferred and retried on following ticks, until budget
+     * allows it or work was deferred for {@link ConfigHolder#maxDeferredWorkTicks} ticks, so it always runs eventually.
+     * Deferred work is preferred over new work when budget is tight, so deferral is spread between machines.
+     * Work that must happen at exact ticks, like recipe progress, should never be checked with this method.
+     * Deferred work has to be checked again on every tick while it applies, work not checked for a tick
+     * is considered not applying anymore and is dropped. All conditions of the work depending on timer
+     * should be expressed by it's period, because deferred work runs outside of it's phase
+     * @param workId id of the work unique within this meta tile entity and it's traits, from 0 to 31
+     * @param period amount of ticks between runs of the work
+     * @return true if work should run now
+     */
+    public boolean shouldRunDeferrableWork(int workId, int period) {
+        int workBit = 1 << workId;
+        World world = getWorld();
+        long currentTime = world.getTotalWorldTime();
+        if((pendingDeferrableWork & workBit) != 0 && workLastRequested[workId] < currentTime - 1) {
+            //work wasn't requested since it was deferred, so it doesn't apply anymore
+            this.pendingDeferrableWork &= ~workBit;
+        }
+        boolean isWorkPending = (pendingDeferrableWork & workBit) != 0;
+        if(!isWorkPending && getOffsetTimer() % period != 0)
+            return false;
+        if(!TickBudget.isBudgetExhausted(world, isWorkPending) || (isWorkPending &&
+            currentTime - workDeferredSince[workId] >= ConfigHolder.maxDeferredWorkTicks)) {
+            this.pendingDeferrableWork &= ~workBit;
+            return true;
+        }
+        if(workDeferredSince == null) {
+            this.workDeferredSince = new long[32];
+            this.workLastRequested = new long[32];
+        }
+        if(!isWorkPending) {
+            this.workDeferredSince[workId] = currentTime;
+        }
+        this.workLastRequested[workId] = currentTime;
+        this.pendingDeferrableWork |= workBit;
+        TickBudget.recordDeferredWork(world);
+        return false;
+    }
+
+    /**
+     * Drops deferred work that wasn't requested in current tick, because it doesn't apply anymore
+     * @return true if there is still deferred work to retry on next ticks
+     */
+    private boolean hasPendingDeferrableWork() {
+        if(pendingDeferrableWork == 0)
+            return false;
+        long currentTime = getWorld().getTotalWorldTime();
+        for(int workId = 0; workId < 32; workId++) {
+            if((pendingDeferrableWork & 1 << workId) != 0 && workLastRequested[workId] < currentTime) {
+                this.pendingDeferrableWork &= ~(1 << workId);
+            }
+        }
+        return pendingDeferrableWork != 0;
+    }
+
     public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
         if(holder != null) {
             holder.writeCustomData(discriminator, dataWriter);
         }
     }
 
+    /**
+     * Writes custom data which replaces pending update with the same coalescing key instead of discriminator
+     * Used when several kinds of updates share single discriminator
+     */
+    void writeCustomData(int discriminator, Object coalescingKey, Consumer<PacketBuffer> dataWriter) {
+        if(holder != null) {
+            holder.writeCustomData(discriminator, coalescingKey, dataWriter);
+        }
+    }
+
     @SideOnly(Side.CLIENT)
     public void addInformation(ItemStack stack, @Nullable World player, List<String> tooltip, boolean advanced) {
     }
@@ -201,8 +316,27 @@ public abstract class MetaTileEntity {
      * @param trait trait object to add
      */
     void addMetaTileEntityTrait(MTETrait trait) {
-        mteTraits.removeIf(otherTrait -> otherTrait.getName().equals(trait.getName()));
+        boolean isTraitReplaced = mteTraits.removeIf(otherTrait -> otherTrait.getName().equals(trait.getName()));
         this.mteTraits.add(trait);
+        //built lazily, because traits are added from their constructor before their own fields are initialized
+        this.traitsByCapability = null;
+        if(isTraitReplaced && getWorld() != null && !getWorld().isRemote) {
+            //neighbors may have cached capability of replaced trait
+            holder.notifyBlockUpdate();
+        }
+    }
+
+    private Map<Capability<?>, MTETrait> getTraitsByCapability() {
+        if(traitsByCapability == null) {
+            this.traitsByCapability = new IdentityHashMap<>();
+            for(MTETrait mteTrait : this.mteTraits) {
+                Capability<?> capability = mteTrait.getImplementingCapability();
+                if(capability != null) {
+                    traitsByCapability.putIfAbsent(capability, mteTrait);
+                }
+            }
+        }
+        return traitsByCapability;
     }
 
     protected IItemHandlerModifiable createImportItemHandler() {
@@ -239,6 +373,7 @@ public abstract class MetaTileEntity {
     public boolean onRightClick(EntityPlayer playerIn, EnumHand hand, EnumFacing facing, float hitX, float hitY, float hitZ) {
         if(!playerIn.isSneaking() && openGUIOnRightClick()) {
             if(getWorld() != null && !getWorld().isRemote) {
+                wakeUp();
                 MetaTileEntityUIFactory.INSTANCE.openUI(getHolder(), (EntityPlayerMP) playerIn);
             }
             return true;
@@ -301,8 +436,161 @@ public abstract class MetaTileEntity {
 
     public void update() {
         for(MTETrait mteTrait : this.mteTraits) {
-            if(shouldUpdate(mteTrait)) mteTrait.update();
+            if(shouldUpdate(mteTrait) && !mteTrait.isSleeping()) {
+                if(TickProfiler.isProfiling() && !getWorld().isRemote) {
+                    long startTime = System.nanoTime();
+                    mteTrait.update();
+                    TickProfiler.recordTraitUpdate(mteTrait, System.nanoTime() - startTime);
+                } else {
+                    mteTrait.update();
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines whenever this meta tile entity has nothing to do in it's own {@link #update()}
+     * besides updating traits. When it returns true and all traits are sleeping,
+     * meta tile entity is put to sleep too, and holder stops updating it until it is woken up
+     * or earliest trait wakes up by itself
+     * Returns false by default, so only meta tile entities opting in can fall asleep
+     */
+    protected boolean isIdle() {
+        return false;
+    }
+
+    /**
+     * Wakes up this meta tile entity and all of it's traits
+     * Called when inventory changes, energy is received, neighbour block changes or player interacts with it
+     */
+    public void wakeUp() {
+        this.isSleeping = false;
+        for(MTETrait mteTrait : this.mteTraits) {
+            mteTrait.wakeUp();
+        }
+    }
+
+    public boolean isSleeping() {
+        if(isSleeping && getWorld().getTotalWorldTime() >= wakeUpTime) {
+            this.isSleeping = false;
+        }
+        return isSleeping;
+    }
+
+    void updateSleepState() {
+        //deferred work has to be retried on next ticks
+        if(getWorld().isRemote || !isIdle() || hasPendingDeferrableWork())
+            return;
+        long earliestWakeUpTime = Long.MAX_VALUE;
+        for(MTETrait mteTrait : this.mteTraits) {
+            if(!mteTrait.isSleeping())
+                return;
+            earliestWakeUpTime = Math.min(earliestWakeUpTime, mteTrait.getWakeUpTime());
+        }
+        this.isSleeping = true;
+        this.wakeUpTime = earliestWakeUpTime;
+    }
+
+    /**
+     * Called when neighbour block or tile entity changes
+     */
+    public void onNeighborChanged() {
+        invalidateNeighborCache();
+        wakeUp();
+    }
+
+    /**
+     * Drops all cached neighbor tile entities and their capabilities,
+     * so they will be looked up again on next access
+     */
+    public void invalidateNeighborCache() {
+        Arrays.fill(neighborTileEntities, null);
+        Arrays.fill(neighborItemHandlers, null);
+        Arrays.fill(neighborFluidHandlers, null);
+        Arrays.fill(neighborEnergyContainers, null);
+        this.cachedNeighborsMask = 0;
+        this.cachedItemHandlersMask = 0;
+        this.cachedFluidHandlersMask = 0;
+        this.cachedEnergyContainersMask = 0;
+    }
+
+    private void invalidateNeighborCache(EnumFacing facing) {
+        int index = facing.getIndex();
+        int facingMask = ~(1 << index);
+        this.neighborTileEntities[index] = null;
+        this.neighborItemHandlers[index] = null;
+        this.neighborFluidHandlers[index] = null;
+        this.neighborEnergyContainers[index] = null;
+        this.cachedNeighborsMask &= facingMask;
+        this.cachedItemHandlersMask &= facingMask;
+        this.cachedFluidHandlersMask &= facingMask;
+        this.cachedEnergyContainersMask &= facingMask;
+    }
+
+    /**
+     * Returns tile entity adjacent to given side of this meta tile entity
+     * Result is cached until neighbor changes or cached tile entity is invalidated,
+     * so tile entities replacing their capabilities or changing their sides must notify neighbors
+     * Returns null without loading neighbor chunk if it is not loaded
+     */
+    @Nullable
+    public TileEntity getNeighbor(EnumFacing facing) {
+        int index = facing.getIndex();
+        TileEntity tileEntity = neighborTileEntities[index];
+        if((cachedNeighborsMask & (1 << index)) != 0) {
+            if(tileEntity == null || !tileEntity.isInvalid())
+                return tileEntity;
+            //neighbor was unloaded or replaced without notifying us
+            invalidateNeighborCache(facing);
+        }
+        BlockPos neighborPos = getPos().offset(facing);
+        if(!getWorld().isBlockLoaded(neighborPos))
+            return null;
+        tileEntity = getWorld().getTileEntity(neighborPos);
+        this.neighborTileEntities[index] = tileEntity;
+        this.cachedNeighborsMask |= 1 << index;
+        return tileEntity;
+    }
+
+    @Nullable
+    public IItemHandler getNeighborItemHandler(EnumFacing facing) {
+        TileEntity tileEntity = getNeighbor(facing);
+        if(tileEntity == null) return null;
+        int index = facing.getIndex();
+        if((cachedItemHandlersMask & (1 << index)) == 0) {
+            this.neighborItemHandlers[index] = tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, facing.getOpposite());
+            this.cachedItemHandlersMask |= 1 << index;
+        }
+        return neighborItemHandlers[index];
+    }
+
+    /**
+     * Returns fluid handler of neighbor tile entity, or of fluid block if there is no tile entity
+     */
+    @Nullable
+    public IFluidHandler getNeighborFluidHandler(EnumFacing facing) {
+        getNeighbor(facing);
+        int index = facing.getIndex();
+        if((cachedNeighborsMask & (1 << index)) == 0) return null;
+        if((cachedFluidHandlersMask & (1 << index)) == 0) {
+            this.neighborFluidHandlers[index] = FluidUtil.getFluidHandler(getWorld(), getPos().offset(facing), facing.getOpposite());
+            this.cachedFluidHandlersMask |= 1 << index;
         }
+        return neighborFluidHandlers[index];
+    }
+
+    @Nullable
+    public IEnergyContainer getNeighborEnergyContainer(EnumFacing facing) {
+        TileEntity tileEntity = getNeighbor(facing);
+        if(tileEntity == null) return null;
+        int index = facing.getIndex();
+        if((cachedEnergyContainersMask & (1 << index)) == 0) {
+            EnumFacing oppositeSide = facing.getOpposite();
+            this.neighborEnergyContainers[index] = tileEntity.hasCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, oppositeSide) ?
+                tileEntity.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, oppositeSide) : null;
+            this.cachedEnergyContainersMask |= 1 << index;
+        }
+        return neighborEnergyContainers[index];
     }
 
     protected boolean shouldUpdate(MTETrait trait) {
@@ -377,20 +665,25 @@ public abstract class MetaTileEntity {
         return true;
     }
 
+    /**
+     * Writes state of this meta tile entity to NBT. Serialized inventories and traits
+     * are cached while they don't change, and cached tags are written as is,
+     * so tags of inventories and traits in written data must not be modified
+     */
     public NBTTagCompound writeToNBT(NBTTagCompound data) {
         data.setInteger("FrontFacing", frontFacing.getIndex());
         data.setInteger("PaintingColor", paintingColor);
 
         if(shouldSerializeInventories()) {
-            GTUtility.writeItems(importItems, "ImportInventory", data);
-            GTUtility.writeItems(exportItems, "ExportInventory", data);
+            data.setTag("ImportInventory", importItemsNBTCache.serialize(importItems));
+            data.setTag("ExportInventory", exportItemsNBTCache.serialize(exportItems));
 
-            data.setTag("ImportFluidInventory", importFluids.serializeNBT());
-            data.setTag("ExportFluidInventory", exportFluids.serializeNBT());
+            data.setTag("ImportFluidInventory", importFluidsNBTCache.serialize(importFluids));
+            data.setTag("ExportFluidInventory", exportFluidsNBTCache.serialize(exportFluids));
         }
 
         for(MTETrait mteTrait : this.mteTraits) {
-            data.setTag(mteTrait.getName(), mteTrait.serializeNBT());
+            data.setTag(mteTrait.getName(), mteTrait.getSerializedNBT());
         }
 
         return data;
@@ -411,6 +704,7 @@ public abstract class MetaTileEntity {
         for(MTETrait mteTrait : this.mteTraits) {
             NBTTagCompound traitCompound = data.getCompoundTag(mteTrait.getName());
             mteTrait.deserializeNBT(traitCompound);
+            mteTrait.markNBTDirty();
         }
     }
 
@@ -459,11 +753,7 @@ public abstract class MetaTileEntity {
             (capability == CapabilityItemHandler.ITEM_HANDLER_CAPABILITY &&
             getItemInventory().getSlots() > 0))
             return true;
-        for(MTETrait mteTrait : this.mteTraits) {
-            if(mteTrait.getImplementingCapability() == capability)
-                return true;
-        }
-        return false;
+        return getTraitsByCapability().containsKey(capability);
     }
 
     public <T> T getCapability(Capability<T> capability, EnumFacing side) {
@@ -474,12 +764,8 @@ public abstract class MetaTileEntity {
             getItemInventory().getSlots() > 0) {
             return CapabilityItemHandler.ITEM_HANDLER_CAPABILITY.cast(getItemInventory());
         }
-        for(MTETrait mteTrait : this.mteTraits) {
-            if(mteTrait.getImplementingCapability() == capability)
-                //noinspection unchecked
-                return (T) mteTrait;
-        }
-        return null;
+        //noinspection unchecked
+        return (T) getTraitsByCapability().get(capability);
     }
 
     public boolean fillInternalTankFromFluidContainer(IItemHandlerModifiable importItems, IItemHandlerModifiable exportItems, int inputSlot, int outputSlot) {
@@ -516,8 +802,7 @@ public abstract class MetaTileEntity {
 
     public void pushFluidsIntoNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(),
-                getPos().offset(nearbyFacing), nearbyFacing.getOpposite());
+            IFluidHandler fluidHandler = getNeighborFluidHandler(nearbyFacing);
             if(fluidHandler == null) continue;
             for(int tankIndex = 0; tankIndex < exportFluids.getTanks(); tankIndex++) {
                 IFluidTank tank = exportFluids.getTankAt(tankIndex);
@@ -532,9 +817,7 @@ public abstract class MetaTileEntity {
 
     public void pushItemsIntoNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            TileEntity tileEntity = getWorld().getTileEntity(getPos().offset(nearbyFacing));
-            if(tileEntity == null) continue;
-            IItemHandler itemHandler = tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, nearbyFacing.getOpposite());
+            IItemHandler itemHandler = getNeighborItemHandler(nearbyFacing);
             if(itemHandler == null) continue;
             for(int slotIndex = 0; slotIndex < exportItems.getSlots(); slotIndex++) {
                 ItemStack stackInSlot = exportItems.getStackInSlot(slotIndex);
@@ -553,9 +836,7 @@ public abstract class MetaTileEntity {
 
     public void pullItemsFromNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            TileEntity tileEntity = getWorld().getTileEntity(getPos().offset(nearbyFacing));
-            if(tileEntity == null) continue;
-            IItemHandler itemHandler = tileEntity.getCapability(CapabilityItemHandler.ITEM_HANDLER_CAPABILITY, nearbyFacing.getOpposite());
+            IItemHandler itemHandler = getNeighborItemHandler(nearbyFacing);
             if(itemHandler == null) continue;
             for(int slotIndex = 0; slotIndex < itemHandler.getSlots(); slotIndex++) {
                 ItemStack stackInSlot = itemHandler.extractItem(slotIndex, itemHandler.getSlotLimit(slotIndex), true);
@@ -574,8 +855,7 @@ public abstract class MetaTileEntity {
 
     public void pullFluidsFromNearbyHandlers(EnumFacing... allowedFaces) {
         for(EnumFacing nearbyFacing : allowedFaces) {
-            IFluidHandler fluidHandler = FluidUtil.getFluidHandler(getWorld(),
-                getPos().offset(nearbyFacing), nearbyFacing.getOpposite());
+            IFluidHandler fluidHandler = getNeighborFluidHandler(nearbyFacing);
             if(fluidHandler == null) continue;
             FluidStack fluidStack = fluidHandler.drain(Integer.MAX_VALUE, false);
             if(fluidStack == null || fluidStack.amount == 0) continue;
@@ -634,6 +914,8 @@ public abstract class MetaTileEntity {
             markDirty();
             writeCustomData(-1, buf -> buf.writeByte(frontFacing.getIndex()));
             mteTraits.forEach(trait -> trait.onFrontFacingSet(frontFacing));
+            //sides accepting or emitting capabilities may depend on front facing
+            holder.notifyBlockUpdate();
         }
     }
 
@@ -4,24 +4,30 @@ import com.google.common.base.Preconditions;
 import gregtech.api.GregTechAPI;
 import gregtech.api.block.machines.BlockMachine;
 import gregtech.api.gui.IUIHolder;
+import gregtech.api.net.NetworkHandler;
+import gregtech.api.net.PacketHolderUpdate;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.nbt.NBTTagList;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
+import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
+import net.minecraftforge.fml.common.network.internal.FMLProxyPacket;
 
 import javax.annotation.Nullable;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 
 public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIHolder {
@@ -51,6 +57,8 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
             //just to update neighbours so cables and other things will work properly
             this.needToUpdateLightning = true;
             world.neighborChanged(getPos(), getBlockType(), getPos());
+            //neighbors may have cached capabilities of previous meta tile entity
+            notifyBlockUpdate();
             markDirty();
         }
         return metaTileEntity;
@@ -119,15 +127,30 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
 
     @Override
     public void update() {
-        if(metaTileEntity != null) {
-            metaTileEntity.update();
+        //sleeping meta tile entities are skipped until woken up
+        if(metaTileEntity != null && !metaTileEntity.isSleeping()) {
+            if((TickProfiler.isProfiling() || TickBudget.isEnabled()) && !getWorld().isRemote) {
+                long startTime = System.nanoTime();
+                metaTileEntity.update();
+                long updateTime = System.nanoTime() - startTime;
+                if(TickProfiler.isProfiling()) {
+                    TickProfiler.recordUpdate(this, updateTime);
+                }
+                TickBudget.recordUpdate(getWorld(), updateTime);
+            } else {
+                metaTileEntity.update();
+            }
+            metaTileEntity.updateSleepState();
+        }
+        if(!updateEntries.isEmpty() && !getWorld().isRemote) {
+            sendCustomDataUpdates();
         }
         if(this.needToUpdateLightning) {
             getWorld().checkLight(getPos());
             this.needToUpdateLightning = false;
         }
         //increment only after current tick, so meta tile entities will get first tick as timer == 0
-        //and update their settings which depend on getTimer() % N properly
+        //and update their settings which depend on getTimer() == 0 properly
         super.update();
     }
 
@@ -161,6 +184,23 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         }
     }
 
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        if(metaTileEntity != null) {
+            //do not keep neighbors loaded through cached references
+            metaTileEntity.invalidateNeighborCache();
+        }
+    }
+
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        if(metaTileEntity != null) {
+            metaTileEntity.invalidateNeighborCache();
+        }
+    }
+
     @Override
     public boolean isValid() {
         return !super.isInvalid() && metaTileEntity != null;
@@ -181,44 +221,91 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         }
     }
 
-    private final List<UpdateEntry> updateEntries = new ArrayList<>();
+    //pending updates by coalescing key, in order of their last write
+    private final Map<Object, UpdateEntry> updateEntries = new LinkedHashMap<>();
 
     public void writeCustomData(int discriminator, Consumer<PacketBuffer> dataWriter) {
+        writeCustomData(discriminator, discriminator, dataWriter);
+    }
+
+    /**
+     * Queues custom data update to be sent to clients at the end of this holder's update.
+     * Pending update with the same coalescing key is replaced, so only last value written
+     * during the tick is sent
+     */
+    void writeCustomData(int discriminator, Object coalescingKey, Consumer<PacketBuffer> dataWriter) {
         ByteBuf backedBuffer = Unpooled.buffer();
         dataWriter.accept(new PacketBuffer(backedBuffer));
         byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
-        updateEntries.add(new UpdateEntry(discriminator, updateData));
-        @SuppressWarnings("deprecation")
-        IBlockState blockState = getBlockType().getStateFromMeta(getBlockMetadata());
-        world.notifyBlockUpdate(getPos(), blockState, blockState, 0);
+        //remove first, so replaced entry moves after entries written since it
+        updateEntries.remove(coalescingKey);
+        updateEntries.put(coalescingKey, new UpdateEntry(discriminator, updateData));
+        if(TickProfiler.isProfiling()) {
+            TickProfiler.recordCustomData(this, updateData.length);
+        }
     }
 
-    @Override
-    public SPacketUpdateTileEntity getUpdatePacket() {
-        NBTTagCompound updateTag = new NBTTagCompound();
-        NBTTagList tagList = new NBTTagList();
-        for(UpdateEntry updateEntry : updateEntries) {
-            NBTTagCompound entryTag = new NBTTagCompound();
-            entryTag.setInteger("id", updateEntry.discriminator);
-            entryTag.setByteArray("data", updateEntry.updateData);
-            tagList.appendTag(entryTag);
+    /**
+     * Sends all pending custom data updates in single packet to players watching this holder's chunk
+     * Players starting to watch chunk later get up-to-date initial sync data, so updates are dropped
+     * when nobody watches
+     */
+    private void sendCustomDataUpdates() {
+        //nobody watches without players, also keeps server worlds other than WorldServer working
+        if(world.playerEntities.isEmpty()) {
+            updateEntries.clear();
+            return;
+        }
+        PlayerChunkMap playerChunkMap = ((WorldServer) world).getPlayerChunkMap();
+        int chunkX = getPos().getX() >> 4;
+        int chunkZ = getPos().getZ() >> 4;
+        //encoded once on first watching player and sent to all of them, like forge does for multiple targets
+        FMLProxyPacket proxyPacket = null;
+        for(EntityPlayer player : world.playerEntities) {
+            EntityPlayerMP playerMP = (EntityPlayerMP) player;
+            if(!playerChunkMap.isPlayerWatchingChunk(playerMP, chunkX, chunkZ)) continue;
+            if(proxyPacket == null) {
+                PacketBuffer packetBuffer = new PacketBuffer(Unpooled.buffer());
+                packetBuffer.writeVarInt(updateEntries.size());
+                for(UpdateEntry updateEntry : updateEntries.values()) {
+                    packetBuffer.writeVarInt(updateEntry.discriminator);
+                    packetBuffer.writeByteArray(updateEntry.updateData);
+                }
+                proxyPacket = new PacketHolderUpdate(world.provider.getDimension(), getPos(), packetBuffer).toFMLPacket();
+            }
+            NetworkHandler.channel.sendTo(proxyPacket, playerMP);
         }
         updateEntries.clear();
-        updateTag.setTag("data", tagList);
-        return new SPacketUpdateTileEntity(getPos(), 0, updateTag);
+    }
+
+    public void receiveCustomDataUpdates(PacketBuffer buffer) {
+        int entriesCount = buffer.readVarInt();
+        for(int i = 0; i < entriesCount; i++) {
+            int discriminator = buffer.readVarInt();
+            int dataLength = buffer.readVarInt();
+            //slice keeps entries aligned even if receiver doesn't read all data
+            receiveCustomData(discriminator, new PacketBuffer(buffer.readSlice(dataLength)));
+        }
+    }
+
+    /**
+     * Vanilla sends this packet only after block change at holder position, e.g. when it is placed.
+     * Holder update packet can reach client before block change, so full initial data is sent here.
+     * Regular updates are sent with {@link PacketHolderUpdate} instead
+     */
+    @Override
+    public SPacketUpdateTileEntity getUpdatePacket() {
+        return new SPacketUpdateTileEntity(getPos(), 0, getUpdateTag());
     }
 
     @Override
     public void onDataPacket(NetworkManager net, SPacketUpdateTileEntity pkt) {
         NBTTagCompound updateTag = pkt.getNbtCompound();
-        NBTTagList tagList = updateTag.getTagList("data", NBT.TAG_COMPOUND);
-        for(int i = 0; i < tagList.tagCount(); i++) {
-            NBTTagCompound entryTag = tagList.getCompoundTagAt(i);
-            int discriminator = entryTag.getInteger("id");
-            byte[] updateData = entryTag.getByteArray("data");
-            ByteBuf backedBuffer = Unpooled.copiedBuffer(updateData);
-            receiveCustomData(discriminator, new PacketBuffer(backedBuffer));
-        }
+        //block changes keeping meta tile entity, like opacity update, shouldn't recreate it and drop it's client state
+        //it is already kept in sync by holder update packets
+        if(metaTileEntity != null && metaTileEntity.metaTileEntityId.equals(updateTag.getString("MetaId")))
+            return;
+        handleUpdateTag(updateTag);
     }
 
     @Override
@@ -227,6 +314,9 @@ public class MetaTileEntityHolder extends TickableTileEntityBase implements IUIH
         updateTag.setInteger("x", getPos().getX());
         updateTag.setInteger("y", getPos().getY());
         updateTag.setInteger("z", getPos().getZ());
+        if(metaTileEntity != null) {
+            updateTag.setString("MetaId", metaTileEntity.metaTileEntityId);
+        }
         ByteBuf backedBuffer = Unpooled.buffer();
         writeInitialSyncData(new PacketBuffer(backedBuffer));
         byte[] updateData = Arrays.copyOfRange(backedBuffer.array(), 0, backedBuffer.writerIndex());
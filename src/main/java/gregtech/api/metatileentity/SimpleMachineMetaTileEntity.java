@@ -5,6 +5,7 @@ import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
 import gregtech.api.capability.impl.EnergyContainerHandler;
 import gregtech.api.capability.impl.FluidHandlerProxy;
+import gregtech.api.capability.impl.NotifiableItemStackHandler;
 import gregtech.api.gui.GuiTextures;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.widgets.ButtonWidget;
@@ -40,7 +41,7 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity {
 
     public SimpleMachineMetaTileEntity(String metaTileEntityId, RecipeMap<?> recipeMap, OrientedOverlayRenderer renderer, int tier) {
         super(metaTileEntityId, recipeMap, renderer, tier);
-        this.chargerInventory = new ItemStackHandler(1) {
+        this.chargerInventory = new NotifiableItemStackHandler(1, this) {
             @Override
             public int getSlotLimit(int slot) {
                 return 1;
@@ -85,7 +86,7 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity {
         super.update();
         if(!getWorld().isRemote) {
             ((EnergyContainerHandler) this.energyContainer).dischargeEnergyContainers(chargerInventory, 0);
-            if(getTimer() % 5 == 0) {
+            if(shouldRunDeferrableWork(DEFERRABLE_AUTO_OUTPUT, 5)) {
                 EnumFacing outputFacing = getOutputFacing();
                 if(autoOutputFluids) {
                     pushFluidsIntoNearbyHandlers(outputFacing);
@@ -97,6 +98,22 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity {
         }
     }
 
+    @Override
+    protected boolean isIdle() {
+        //machine has nothing to discharge or output, so it only waits for it's workable
+        return chargerInventory.getStackInSlot(0).isEmpty() &&
+            (!autoOutputItems || isItemHandlerEmpty(exportItems)) &&
+            (!autoOutputFluids || isExportFluidsEmpty());
+    }
+
+    private boolean isExportFluidsEmpty() {
+        for(int i = 0; i < exportFluids.getTanks(); i++) {
+            if(exportFluids.getTankAt(i).getFluidAmount() > 0)
+                return false;
+        }
+        return true;
+    }
+
     //OUTPUT TANKS OVERRIDE MANAGEMENT MECHANISM
 
     public void setOutputOverride(EnumFacing side, int overrideIndex) {
@@ -202,6 +219,7 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity {
     public void setOutputFacing(EnumFacing outputFacing) {
         this.outputFacing = outputFacing;
         if(!getWorld().isRemote) {
+            wakeUp();
             writeCustomData(-100, buf -> buf.writeByte(outputFacing.getIndex()));
             markDirty();
         }
@@ -210,6 +228,7 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity {
     public void setAutoOutputItems(boolean autoOutputItems) {
         this.autoOutputItems = autoOutputItems;
         if(!getWorld().isRemote) {
+            wakeUp();
             writeCustomData(-101, buf -> buf.writeBoolean(autoOutputItems));
             markDirty();
         }
@@ -218,6 +237,7 @@ public class SimpleMachineMetaTileEntity extends WorkableTieredMetaTileEntity {
     public void setAutoOutputFluids(boolean autoOutputFluids) {
         this.autoOutputFluids = autoOutputFluids;
         if(!getWorld().isRemote) {
+            wakeUp();
             writeCustomData(-102, buf -> buf.writeBoolean(autoOutputFluids));
             markDirty();
         }
@@ -4,8 +4,8 @@ import codechicken.lib.render.CCRenderState;
 import codechicken.lib.render.pipeline.ColourMultiplier;
 import codechicken.lib.render.pipeline.IVertexOperation;
 import codechicken.lib.vec.Matrix4;
-import gregtech.api.capability.impl.FilteredFluidHandler;
 import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.capability.impl.NotifiableFluidTank;
 import gregtech.api.capability.impl.SteamRecipeMapWorkableHandler;
 import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.resources.TextureArea;
@@ -96,11 +96,17 @@ public abstract class SteamMetaTileEntity extends MetaTileEntity {
 
     @Override
     public FluidTankList createImportFluidHandler() {
-        this.steamFluidTank = new FilteredFluidHandler(getSteamCapacity())
+        this.steamFluidTank = new NotifiableFluidTank(getSteamCapacity(), this)
             .setFillPredicate(ModHandler::isSteam);
         return new FluidTankList(false, steamFluidTank);
     }
 
+    @Override
+    protected boolean isIdle() {
+        //steam machines do all their work in workable handler
+        return true;
+    }
+
     public int getSteamCapacity() {
         return 16000;
     }
@@ -0,0 +1,123 @@
+package gregtech.api.metatileentity;
+
+import gnu.trove.map.TIntIntMap;
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntIntHashMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gregtech.api.util.GTLog;
+import gregtech.common.ConfigHolder;
+import net.minecraft.world.World;
+
+/**
+ * Tracks time spent on server-side meta tile entity updates per dimension in current tick.<p>
+ *
+ * When time spent in dimension exceeds it's budget, configured by {@link ConfigHolder#machineTickBudget}
+ * and {@link ConfigHolder#dimensionMachineTickBudgets}, machines defer their low priority periodic work,
+ * see {@link MetaTileEntity#shouldRunDeferrableWork(int, int)}.<p>
+ *
+ * Machines update in the same order every tick, so machines late in that order would be deferred every time.
+ * To spread deferral between machines, once some work was deferred, part of the next tick budget is reserved
+ * for deferred work: new work is deferred as soon as it's share is spent, while previously deferred work
+ * can use the whole budget.<p>
+ *
+ * All methods should only be called from the server thread.
+ */
+public class TickBudget {
+
+    //share of the budget new work can use while there is deferred work from previous tick
+    private static final double NEW_WORK_BUDGET_SHARE = 0.5;
+
+    private static final TIntObjectMap<DimensionBudget> dimensionBudgets = new TIntObjectHashMap<>();
+    private static final TIntIntMap budgetOverrides = new TIntIntHashMap();
+    private static String[] parsedOverrides;
+
+    public static boolean isEnabled() {
+        return ConfigHolder.machineTickBudget > 0 || ConfigHolder.dimensionMachineTickBudgets.length > 0;
+    }
+
+    static void recordUpdate(World world, long nanos) {
+        getDimensionBudget(world).spentNanos += nanos;
+    }
+
+    /**
+     * @param isWorkDeferred true if work was already deferred on previous ticks
+     * @return true if machines in given world have already used time budget of current tick available to given work
+     */
+    public static boolean isBudgetExhausted(World world, boolean isWorkDeferred) {
+        if (world.isRemote || !isEnabled()) {
+            return false;
+        }
+        long budgetNanos = getBudgetMillis(world.provider.getDimension()) * 1000000L;
+        if (budgetNanos <= 0) {
+            return false;
+        }
+        DimensionBudget budget = getDimensionBudget(world);
+        if (!isWorkDeferred && budget.hadDeferredWork) {
+            budgetNanos = (long) (budgetNanos * NEW_WORK_BUDGET_SHARE);
+        }
+        return budget.spentNanos >= budgetNanos;
+    }
+
+    /**
+     * Records that work was deferred in current tick, so next tick reserves budget for it
+     */
+    static void recordDeferredWork(World world) {
+        getDimensionBudget(world).hasDeferredWork = true;
+    }
+
+    private static int getBudgetMillis(int dimension) {
+        String[] overrides = ConfigHolder.dimensionMachineTickBudgets;
+        //config array is replaced on change, so identity check is enough to detect it
+        if (overrides != parsedOverrides) {
+            parseOverrides(overrides);
+        }
+        if (budgetOverrides.containsKey(dimension)) {
+            return budgetOverrides.get(dimension);
+        }
+        return ConfigHolder.machineTickBudget;
+    }
+
+    private static void parseOverrides(String[] overrides) {
+        budgetOverrides.clear();
+        for (String override : overrides) {
+            int separatorIndex = override.indexOf('=');
+            try {
+                if (separatorIndex == -1) {
+                    throw new NumberFormatException("missing '='");
+                }
+                int dimension = Integer.parseInt(override.substring(0, separatorIndex).trim());
+                int budgetMillis = Integer.parseInt(override.substring(separatorIndex + 1).trim());
+                budgetOverrides.put(dimension, Math.max(0, budgetMillis));
+            } catch (NumberFormatException exception) {
+                GTLog.logger.warn("Invalid machine tick budget override {}: {}", override, exception.getMessage());
+            }
+        }
+        parsedOverrides = overrides;
+    }
+
+    private static DimensionBudget getDimensionBudget(World world) {
+        int dimension = world.provider.getDimension();
+        DimensionBudget budget = dimensionBudgets.get(dimension);
+        if (budget == null) {
+            budget = new DimensionBudget();
+            dimensionBudgets.put(dimension, budget);
+        }
+        //budget is reset lazily on first access in a new tick
+        long worldTime = world.getTotalWorldTime();
+        if (budget.worldTime != worldTime) {
+            //budget is reserved only in the tick right after work was deferred
+            budget.hadDeferredWork = budget.hasDeferredWork && budget.worldTime == worldTime - 1;
+            budget.hasDeferredWork = false;
+            budget.worldTime = worldTime;
+            budget.spentNanos = 0L;
+        }
+        return budget;
+    }
+
+    private static class DimensionBudget {
+        private long worldTime = -1L;
+        private long spentNanos;
+        private boolean hasDeferredWork;
+        private boolean hadDeferredWork;
+    }
+}
@@ -0,0 +1,140 @@
+package gregtech.api.metatileentity;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Opt-in profiler of server-side meta tile entity updates.<p>
+ *
+ * While profiling, it records update time per meta tile entity class (including it's traits),
+ * per trait class and per chunk, and amount of bytes written by custom data updates.
+ * When profiling is off, the only cost is a static field check in holder update.
+ * All methods should only be called from the server thread.
+ */
+public class TickProfiler {
+
+    private static boolean isProfiling = false;
+    private static long profilingStartTime;
+    private static long profilingStopTime;
+
+    private static final Map<Class<?>, Entry> metaTileEntityEntries = new IdentityHashMap<>();
+    private static final Map<Class<?>, Entry> traitEntries = new IdentityHashMap<>();
+    private static final TIntObjectMap<TLongObjectMap<Entry>> chunkEntries = new TIntObjectHashMap<>();
+
+    public static boolean isProfiling() {
+        return isProfiling;
+    }
+
+    /**
+     * Clears previously collected data and starts profiling
+     */
+    public static void start() {
+        metaTileEntityEntries.clear();
+        traitEntries.clear();
+        chunkEntries.clear();
+        profilingStartTime = System.nanoTime();
+        isProfiling = true;
+    }
+
+    public static void stop() {
+        if (isProfiling) {
+            profilingStopTime = System.nanoTime();
+            isProfiling = false;
+        }
+    }
+
+    /**
+     * @return nanoseconds passed since profiling was started until it was stopped, or until now if it is running
+     */
+    public static long getProfilingDuration() {
+        return (isProfiling ? System.nanoTime() : profilingStopTime) - profilingStartTime;
+    }
+
+    public static Map<Class<?>, Entry> getMetaTileEntityEntries() {
+        return metaTileEntityEntries;
+    }
+
+    public static Map<Class<?>, Entry> getTraitEntries() {
+        return traitEntries;
+    }
+
+    /**
+     * @return entries by dimension id and chunk position, packed with {@link ChunkPos#asLong(int, int)}
+     */
+    public static TIntObjectMap<TLongObjectMap<Entry>> getChunkEntries() {
+        return chunkEntries;
+    }
+
+    static void recordUpdate(MetaTileEntityHolder holder, long nanos) {
+        metaTileEntityEntries.computeIfAbsent(holder.getMetaTileEntity().getClass(), k -> new Entry()).addUpdate(nanos);
+        getChunkEntry(holder).addUpdate(nanos);
+    }
+
+    static void recordTraitUpdate(MTETrait trait, long nanos) {
+        traitEntries.computeIfAbsent(trait.getClass(), k -> new Entry()).addUpdate(nanos);
+    }
+
+    static void recordCustomData(MetaTileEntityHolder holder, int bytes) {
+        MetaTileEntity metaTileEntity = holder.getMetaTileEntity();
+        if (metaTileEntity != null) {
+            metaTileEntityEntries.computeIfAbsent(metaTileEntity.getClass(), k -> new Entry()).addCustomData(bytes);
+        }
+        getChunkEntry(holder).addCustomData(bytes);
+    }
+
+    private static Entry getChunkEntry(MetaTileEntityHolder holder) {
+        int dimension = holder.getWorld().provider.getDimension();
+        TLongObjectMap<Entry> dimensionEntries = chunkEntries.get(dimension);
+        if (dimensionEntries == null) {
+            dimensionEntries = new TLongObjectHashMap<>();
+            chunkEntries.put(dimension, dimensionEntries);
+        }
+        BlockPos pos = holder.getPos();
+        long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Entry entry = dimensionEntries.get(chunkKey);
+        if (entry == null) {
+            entry = new Entry();
+            dimensionEntries.put(chunkKey, entry);
+        }
+        return entry;
+    }
+
+    public static class Entry {
+
+        private long nanos;
+        private long updates;
+        private long customDataBytes;
+
+        private void addUpdate(long nanos) {
+            this.nanos += nanos;
+            this.updates++;
+        }
+
+        private void addCustomData(int bytes) {
+            this.customDataBytes += bytes;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public long getUpdates() {
+            return updates;
+        }
+
+        public long getCustomDataBytes() {
+            return customDataBytes;
+        }
+
+        public double getAverageNanos() {
+            return updates == 0 ? 0.0 : nanos / (double) updates;
+        }
+    }
+}
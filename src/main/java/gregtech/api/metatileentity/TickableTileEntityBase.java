@@ -2,6 +2,7 @@ package gregtech.api.metatileentity;
 
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
 
 public abstract class TickableTileEntityBase extends TileEntity implements ITickable {
 
@@ -11,6 +12,20 @@ public abstract class TickableTileEntityBase extends TileEntity implements ITick
         return timer;
     }
 
+    /**
+     * Returns timer shifted by constant offset derived from position of this tile entity
+     * Use it instead of {@link #getTimer()} for periodic work, so tile entities loaded in
+     * the same tick don't all perform it in the same tick. Offset is the same on both sides
+     */
+    public long getOffsetTimer() {
+        return timer + getTimerOffset(pos);
+    }
+
+    private static long getTimerOffset(BlockPos pos) {
+        long hash = pos.toLong() * 0x9E3779B97F4A7C15L;
+        return (hash ^ (hash >>> 32)) & Integer.MAX_VALUE;
+    }
+
     @Override
     public void update() {
         if(timer == 0) {
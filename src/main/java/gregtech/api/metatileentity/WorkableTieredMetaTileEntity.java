@@ -7,6 +7,8 @@ import gregtech.api.GTValues;
 import gregtech.api.capability.impl.EnergyRecipeMapWorkableHandler;
 import gregtech.api.capability.impl.FilteredFluidHandler;
 import gregtech.api.capability.impl.FluidTankList;
+import gregtech.api.capability.impl.NotifiableFluidTank;
+import gregtech.api.capability.impl.NotifiableItemStackHandler;
 import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.render.OrientedOverlayRenderer;
@@ -51,13 +53,13 @@ public abstract class WorkableTieredMetaTileEntity extends TieredMetaTileEntity
     @Override
     protected IItemHandlerModifiable createImportItemHandler() {
         if(workable == null) return new ItemStackHandler(0);
-        return new ItemStackHandler(workable.recipeMap.getMaxInputs());
+        return new NotifiableItemStackHandler(workable.recipeMap.getMaxInputs(), this);
     }
 
     @Override
     protected IItemHandlerModifiable createExportItemHandler() {
         if(workable == null) return new ItemStackHandler(0);
-        return new ItemStackHandler(workable.recipeMap.getMaxOutputs());
+        return new NotifiableItemStackHandler(workable.recipeMap.getMaxOutputs(), this);
     }
 
     @Override
@@ -65,7 +67,7 @@ public abstract class WorkableTieredMetaTileEntity extends TieredMetaTileEntity
         if(workable == null) return new FluidTankList(false);
         FilteredFluidHandler[] fluidImports = new FilteredFluidHandler[workable.recipeMap.getMaxFluidInputs()];
         for(int i = 0; i < fluidImports.length; i++) {
-            FilteredFluidHandler filteredFluidHandler = new FilteredFluidHandler(getInputTankCapacity(i));
+            FilteredFluidHandler filteredFluidHandler = new NotifiableFluidTank(getInputTankCapacity(i), this);
             filteredFluidHandler.setFillPredicate(this::canInputFluid);
             fluidImports[i] = filteredFluidHandler;
         }
@@ -77,7 +79,7 @@ public abstract class WorkableTieredMetaTileEntity extends TieredMetaTileEntity
         if(workable == null) return new FluidTankList(false);
         FluidTank[] fluidExports = new FluidTank[workable.recipeMap.getMaxFluidOutputs()];
         for(int i = 0; i < fluidExports.length; i++) {
-            fluidExports[i] = new FluidTank(getOutputTankCapacity(i));
+            fluidExports[i] = new NotifiableFluidTank(getOutputTankCapacity(i), this);
         }
         return new FluidTankList(false, fluidExports);
     }
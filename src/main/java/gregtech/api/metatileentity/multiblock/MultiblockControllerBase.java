@@ -43,7 +43,8 @@ public abstract class MultiblockControllerBase extends MetaTileEntity {
     public void update() {
         super.update();
         if(!getWorld().isRemote) {
-            if(getTimer() % 20 == 0) {
+            //check right away on first tick, so loaded multiblocks don't stay unformed until their phase comes
+            if(getTimer() == 0 || shouldRunDeferrableWork(DEFERRABLE_STRUCTURE_CHECK, 20)) {
                 checkStructurePattern();
             }
             if(isStructureFormed()) {
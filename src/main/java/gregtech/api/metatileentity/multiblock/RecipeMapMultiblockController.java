@@ -16,6 +16,7 @@ import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.render.Textures;
 import gregtech.api.util.GTUtility;
+import gregtech.common.ConfigHolder;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.Style;
 import net.minecraft.util.text.TextComponentTranslation;
@@ -67,6 +68,14 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
         return outputFluidInventory;
     }
 
+    /**
+     * @return max amount of recipe copies this multiblock can process at once
+     * Actual amount is also limited by available energy, inputs and output space
+     */
+    public int getMaxParallelRecipes() {
+        return ConfigHolder.multiblockMaxParallelRecipes;
+    }
+
     /**
      * Performs extra checks for validity of given recipe before multiblock
      * will start it's processing.
@@ -79,6 +88,8 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
     protected void formStructure(PatternMatchContext context) {
         super.formStructure(context);
         initializeAbilities();
+        //inventories have changed, so workable should search for recipe again
+        wakeUp();
     }
 
     @Override
@@ -126,6 +137,10 @@ public abstract class RecipeMapMultiblockController extends MultiblockWithDispla
                 textList.add(new TextComponentTranslation("gregtech.multiblock.running"));
                 int currentProgress = (int) (recipeMapWorkable.getProgressPercent() * 100);
                 textList.add(new TextComponentTranslation("gregtech.multiblock.progress", currentProgress));
+                int parallelRecipes = recipeMapWorkable.getParallelRecipesPerformed();
+                if (parallelRecipes > 1) {
+                    textList.add(new TextComponentTranslation("gregtech.multiblock.parallel_recipes", parallelRecipes));
+                }
             } else {
                 textList.add(new TextComponentTranslation("gregtech.multiblock.idling"));
             }
@@ -5,15 +5,20 @@ import gregtech.api.gui.ModularUI;
 import gregtech.api.gui.UIFactory;
 import gregtech.api.gui.impl.ModularUIContainer;
 import gregtech.api.gui.impl.ModularUIGui;
+import gregtech.api.metatileentity.MetaTileEntityHolder;
 import gregtech.api.util.GTLog;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.network.NetHandlerPlayClient;
 import net.minecraft.inventory.Container;
 import net.minecraft.network.INetHandler;
 import net.minecraft.network.NetHandlerPlayServer;
 import net.minecraft.network.PacketBuffer;
+import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.IntIdentityHashBiMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.network.FMLEventChannel;
@@ -162,6 +167,23 @@ public class NetworkHandler {
             }
         ));
 
+        registerPacket(4, PacketHolderUpdate.class, new PacketCodec<>(
+            (packet, buf) -> {
+                buf.writeVarInt(packet.dimension);
+                buf.writeBlockPos(packet.pos);
+                buf.writeVarInt(packet.updateData.readableBytes());
+                //write without moving reader index, so same packet can be encoded for every player
+                buf.writeBytes(packet.updateData, packet.updateData.readerIndex(), packet.updateData.readableBytes());
+            },
+            (buf) -> {
+                int dimension = buf.readVarInt();
+                BlockPos pos = buf.readBlockPos();
+                ByteBuf copiedDataBuffer = Unpooled.buffer(buf.readVarInt());
+                buf.readBytes(copiedDataBuffer);
+                return new PacketHolderUpdate(dimension, pos, new PacketBuffer(copiedDataBuffer));
+            }
+        ));
+
         registerServerExecutor(PacketUIClientAction.class, (packet, handler) -> {
             Container openContainer = handler.player.openContainer;
             if(openContainer instanceof ModularUIContainer &&
@@ -190,6 +212,16 @@ public class NetworkHandler {
         });
         registerClientExecutor(PacketUIWidgetUpdate.class, (packet, handler) ->
             ModularUIGui.addWidgetUpdate(packet));
+        registerClientExecutor(PacketHolderUpdate.class, (packet, handler) ->
+            //executors are called from network thread, but holders must be updated from client thread
+            Minecraft.getMinecraft().addScheduledTask(() -> {
+                World world = Minecraft.getMinecraft().world;
+                if(world == null || world.provider.getDimension() != packet.dimension) return;
+                TileEntity tileEntity = world.getTileEntity(packet.pos);
+                if(tileEntity instanceof MetaTileEntityHolder) {
+                    ((MetaTileEntityHolder) tileEntity).receiveCustomDataUpdates(packet.updateData);
+                }
+            }));
     }
 
     public static <T extends Packet> void registerPacket(int packetId, Class<T> packetClass, PacketCodec<T> codec) {
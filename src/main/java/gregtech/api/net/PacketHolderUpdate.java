@@ -0,0 +1,22 @@
+package gregtech.api.net;
+
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Carries custom data updates of single meta tile entity holder, written by
+ * {@link gregtech.api.metatileentity.MetaTileEntityHolder#writeCustomData}
+ */
+public class PacketHolderUpdate implements NetworkHandler.Packet {
+
+    public final int dimension;
+    public final BlockPos pos;
+    public final PacketBuffer updateData;
+
+    public PacketHolderUpdate(int dimension, BlockPos pos, PacketBuffer updateData) {
+        this.dimension = dimension;
+        this.pos = pos;
+        this.updateData = updateData;
+    }
+
+}
@@ -71,6 +71,8 @@ public class TileEntityPipeBase<PipeType extends Enum<PipeType> & IPipeType<Node
         }
         if(!getWorld().isRemote) {
             getPipeBlock().getWorldPipeNet(getWorld()).updateBlockedConnections(getPos(), side, blocked);
+            //neighbors may have cached capabilities or connections of this pipe
+            getWorld().notifyNeighborsOfStateChange(getPos(), getBlockType(), false);
         }
     }
 
@@ -7,6 +7,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.item.crafting.Ingredient;
 import net.minecraftforge.oredict.OreIngredient;
 
+import javax.annotation.Nullable;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -21,11 +22,11 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(String oredict) {
-        return new CountableIngredient(new OreIngredient(oredict), 1);
+        return from(oredict, 1);
     }
 
     public static CountableIngredient from(String oredict, int count) {
-        return new CountableIngredient(new OreIngredient(oredict), count);
+        return new CountableIngredient(new OreIngredient(oredict), count, oredict);
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material) {
@@ -33,15 +34,22 @@ public class CountableIngredient {
     }
 
     public static CountableIngredient from(OrePrefix prefix, Material material, int count) {
-        return new CountableIngredient(new OreIngredient(new UnificationEntry(prefix, material).toString()), count);
+        return from(new UnificationEntry(prefix, material).toString(), count);
     }
 
     private Ingredient ingredient;
     private int count;
+    @Nullable
+    private String oreDictName;
 
     public CountableIngredient(Ingredient ingredient, int count) {
+        this(ingredient, count, null);
+    }
+
+    public CountableIngredient(Ingredient ingredient, int count, @Nullable String oreDictName) {
         this.ingredient = ingredient;
         this.count = count;
+        this.oreDictName = oreDictName;
     }
 
     public Ingredient getIngredient() {
@@ -52,6 +60,15 @@ public class CountableIngredient {
         return count;
     }
 
+    /**
+     * @return ore dictionary name this ingredient was created from,
+     * or null if it is not a plain ore dictionary ingredient
+     */
+    @Nullable
+    public String getOreDictName() {
+        return oreDictName;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
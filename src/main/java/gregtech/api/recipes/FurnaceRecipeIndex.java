@@ -0,0 +1,134 @@
+package gregtech.api.recipes;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gregtech.api.unification.OreDictUnifier;
+import gregtech.api.util.GTLog;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.FurnaceRecipes;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.oredict.OreDictionary;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Frozen index of vanilla furnace recipes, keyed by input item and metadata.
+ * {@link FurnaceRecipes#getSmeltingResult(ItemStack)} scans all smelting recipes linearly,
+ * so machines use this index instead once it is frozen after mod loading is complete.<p>
+ *
+ * Exact and wildcard metadata entries resolve the same way as in {@link FurnaceRecipes#getSmeltingResult(ItemStack)},
+ * which returns the first matching entry in smelting list iteration order.<p>
+ *
+ * If smelting list changes after freezing (e.g. some mod adds, removes or replaces recipes at runtime),
+ * index is rebuilt lazily on next lookup, and {@link #getIndexVersion()} is incremented
+ * so dependant caches can be dropped. Size of the list is checked on every lookup, while identity
+ * of it's entries is compared with indexed ones once per server tick.
+ */
+public class FurnaceRecipeIndex {
+
+    private static final Map<Item, TIntObjectMap<SmeltingOutput>> smeltingOutputs = new IdentityHashMap<>();
+    private static boolean isFrozen = false;
+    //smelting list entries in iteration order at the time index was built
+    private static ItemStack[] indexedInputs = new ItemStack[0];
+    private static ItemStack[] indexedOutputs = new ItemStack[0];
+    private static int checkedServerTick = -1;
+    private static int indexVersion = 0;
+
+    public static void freeze() {
+        isFrozen = true;
+        rebuildIndex();
+    }
+
+    public static boolean isFrozen() {
+        return isFrozen;
+    }
+
+    /**
+     * @return version of the index, incremented every time it is rebuilt
+     */
+    public static int getIndexVersion() {
+        ensureIndexUpToDate();
+        return indexVersion;
+    }
+
+    /**
+     * @return unificated smelting output for given input, or empty stack if there is none.
+     * Returned stack is shared and should be copied before modification
+     */
+    public static ItemStack getSmeltingOutput(ItemStack input) {
+        if (input.isEmpty()) return ItemStack.EMPTY;
+        if (!isFrozen) {
+            return OreDictUnifier.getUnificated(FurnaceRecipes.instance().getSmeltingResult(input));
+        }
+        ensureIndexUpToDate();
+        TIntObjectMap<SmeltingOutput> itemOutputs = smeltingOutputs.get(input.getItem());
+        if (itemOutputs == null) return ItemStack.EMPTY;
+        SmeltingOutput output = itemOutputs.get(input.getMetadata());
+        SmeltingOutput wildcardOutput = itemOutputs.get(OreDictionary.WILDCARD_VALUE);
+        //both entries match input, so the one FurnaceRecipes would reach first wins
+        if (output == null || (wildcardOutput != null && wildcardOutput.order < output.order)) {
+            output = wildcardOutput;
+        }
+        return output == null ? ItemStack.EMPTY : output.output;
+    }
+
+    private static void ensureIndexUpToDate() {
+        if (isFrozen && !isIndexUpToDate()) {
+            rebuildIndex();
+        }
+    }
+
+    private static boolean isIndexUpToDate() {
+        Map<ItemStack, ItemStack> smeltingList = FurnaceRecipes.instance().getSmeltingList();
+        if (smeltingList.size() != indexedInputs.length) return false;
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        int serverTick = server == null ? -1 : server.getTickCounter();
+        if (serverTick != -1 && serverTick == checkedServerTick) return true;
+        checkedServerTick = serverTick;
+        int index = 0;
+        for (Map.Entry<ItemStack, ItemStack> entry : smeltingList.entrySet()) {
+            if (entry.getKey() != indexedInputs[index] || entry.getValue() != indexedOutputs[index]) return false;
+            index++;
+        }
+        return true;
+    }
+
+    private static void rebuildIndex() {
+        smeltingOutputs.clear();
+        Map<ItemStack, ItemStack> smeltingList = FurnaceRecipes.instance().getSmeltingList();
+        indexedInputs = new ItemStack[smeltingList.size()];
+        indexedOutputs = new ItemStack[smeltingList.size()];
+        int order = 0;
+        for (Map.Entry<ItemStack, ItemStack> entry : smeltingList.entrySet()) {
+            ItemStack input = entry.getKey();
+            indexedInputs[order] = input;
+            indexedOutputs[order] = entry.getValue();
+            if (!input.isEmpty()) {
+                TIntObjectMap<SmeltingOutput> itemOutputs = smeltingOutputs.computeIfAbsent(input.getItem(), k -> new TIntObjectHashMap<>(4));
+                //first entry wins, same as in FurnaceRecipes lookup
+                if (!itemOutputs.containsKey(input.getMetadata())) {
+                    itemOutputs.put(input.getMetadata(), new SmeltingOutput(order, OreDictUnifier.getUnificated(entry.getValue())));
+                }
+            }
+            order++;
+        }
+        checkedServerTick = -1;
+        indexVersion++;
+        GTLog.logger.info("Indexed {} smelting recipes", indexedInputs.length);
+    }
+
+    private static class SmeltingOutput {
+
+        //position of the entry in smelting list iteration order
+        private final int order;
+        private final ItemStack output;
+
+        private SmeltingOutput(int order, ItemStack output) {
+            this.order = order;
+            this.output = output;
+        }
+    }
+}
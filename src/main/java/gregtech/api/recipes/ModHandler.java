@@ -570,8 +570,7 @@ public class ModHandler {
     }
 
     public static ItemStack getSmeltingOutput(ItemStack input) {
-        if (input.isEmpty()) return ItemStack.EMPTY;
-        return OreDictUnifier.getUnificated(FurnaceRecipes.instance().getSmeltingResult(input));
+        return FurnaceRecipeIndex.getSmeltingOutput(input);
     }
 
     public static void addRCFurnaceRecipe(UnificationEntry input, ItemStack output, int duration) {
@@ -28,6 +28,11 @@ import java.util.*;
  */
 public class Recipe {
 
+    private static final int ITEM_AMOUNTS_BUFFER = 0;
+    private static final int FLUID_AMOUNTS_BUFFER = 1;
+    private static final ThreadLocal<int[][]> MATCHING_BUFFERS = ThreadLocal.withInitial(() -> new int[][] {new int[16], new int[16]});
+    private static final ThreadLocal<RecipeInputs> MATCHING_INPUTS = ThreadLocal.withInitial(RecipeInputs::new);
+
     public static int getMaxChancedValue() {
         return 10000;
     }
@@ -93,31 +98,62 @@ public class Recipe {
 	}
 
 	public final boolean matches(boolean consumeIfSuccessful, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
-		return matches(consumeIfSuccessful, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs));
+	    RecipeInputs recipeInputs = MATCHING_INPUTS.get().set(inputs, fluidInputs);
+	    try {
+	        return matches(consumeIfSuccessful, recipeInputs, 1);
+        } finally {
+	        recipeInputs.clear();
+        }
 	}
 
 	public boolean matches(boolean consumeIfSuccessful, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-	    int[] fluidAmountInTank = new int[fluidInputs.size()];
-	    int[] itemAmountInSlot = new int[inputs.size()];
+	    RecipeInputs recipeInputs = MATCHING_INPUTS.get().set(inputs, fluidInputs);
+	    try {
+	        return matches(consumeIfSuccessful, recipeInputs, 1);
+        } finally {
+	        recipeInputs.clear();
+        }
+	}
 
-        for(int i = 0; i < fluidAmountInTank.length; i++) {
-            FluidStack fluidInTank = fluidInputs.get(i);
+    /**
+     * Checks if given inventories have enough inputs for given amount of copies of this recipe at once,
+     * same as recipe scaled by {@link RecipeScaler#scaleRecipe(Recipe, int)} would match them, without creating it
+     */
+	public final boolean matchesScaled(IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs, int multiplier) {
+	    RecipeInputs recipeInputs = MATCHING_INPUTS.get().set(inputs, fluidInputs);
+	    try {
+	        return matches(false, recipeInputs, multiplier);
+        } finally {
+	        recipeInputs.clear();
+        }
+	}
+
+	private boolean matches(boolean consumeIfSuccessful, RecipeInputs recipeInputs, int multiplier) {
+	    int tanks = recipeInputs.getTanks();
+	    int slots = recipeInputs.getSlots();
+	    int[] fluidAmountInTank = getMatchingBuffer(FLUID_AMOUNTS_BUFFER, tanks);
+	    int[] itemAmountInSlot = getMatchingBuffer(ITEM_AMOUNTS_BUFFER, slots);
+
+        for(int i = 0; i < tanks; i++) {
+            FluidStack fluidInTank = recipeInputs.getFluidInTank(i);
             fluidAmountInTank[i] = fluidInTank == null ? 0 : fluidInTank.amount;
         }
-        for(int i = 0; i < itemAmountInSlot.length; i++) {
-            ItemStack itemInSlot = inputs.get(i);
+        for(int i = 0; i < slots; i++) {
+            ItemStack itemInSlot = recipeInputs.getStackInSlot(i);
             itemAmountInSlot[i] = itemInSlot.isEmpty() ? 0 : itemInSlot.getCount();
         }
 
-        for (FluidStack fluid : this.fluidInputs) {
-            int fluidAmount = fluid.amount;
+        //indexed loops are used on purpose to avoid allocating iterators
+        for (int fluidIndex = 0; fluidIndex < this.fluidInputs.size(); fluidIndex++) {
+            FluidStack fluid = this.fluidInputs.get(fluidIndex);
+            int fluidAmount = fluid.amount * multiplier;
             boolean isNotConsumed = false;
             if(fluidAmount == 0) {
                 fluidAmount = 1;
                 isNotConsumed = true;
             }
-            for (int i = 0; i < fluidInputs.size(); i++) {
-                FluidStack tankFluid = fluidInputs.get(i);
+            for (int i = 0; i < tanks; i++) {
+                FluidStack tankFluid = recipeInputs.getFluidInTank(i);
                 if (tankFluid == null || !tankFluid.isFluidEqual(fluid))
                     continue;
                 int fluidAmountToConsume = Math.min(fluidAmountInTank[i], fluidAmount);
@@ -129,15 +165,16 @@ public class Recipe {
                 return false;
         }
 
-        for(CountableIngredient ingredient : this.inputs) {
-            int ingredientAmount = ingredient.getCount();
+        for(int inputIndex = 0; inputIndex < this.inputs.size(); inputIndex++) {
+            CountableIngredient ingredient = this.inputs.get(inputIndex);
+            int ingredientAmount = ingredient.getCount() * multiplier;
             boolean isNotConsumed = false;
             if(ingredientAmount == 0) {
                 ingredientAmount = 1;
                 isNotConsumed = true;
             }
-            for (int i = 0; i < inputs.size(); i++) {
-                ItemStack inputStack = inputs.get(i);
+            for (int i = 0; i < slots; i++) {
+                ItemStack inputStack = recipeInputs.getStackInSlot(i);
                 if (inputStack.isEmpty() || !ingredient.getIngredient().apply(inputStack))
                     continue;
                 int itemAmountToConsume = Math.min(itemAmountInSlot[i], ingredientAmount);
@@ -150,27 +187,41 @@ public class Recipe {
         }
 
         if(consumeIfSuccessful) {
-            for(int i = 0; i < fluidAmountInTank.length; i++) {
-                FluidStack fluidStack = fluidInputs.get(i);
+            for(int i = 0; i < tanks; i++) {
+                FluidStack fluidStack = recipeInputs.getFluidInTank(i);
                 int fluidAmount = fluidAmountInTank[i];
                 if(fluidStack == null || fluidStack.amount == fluidAmount)
                     continue;
                 fluidStack.amount = fluidAmount;
                 if(fluidStack.amount == 0)
-                    fluidInputs.set(i, null);
+                    recipeInputs.clearEmptyTank(i);
             }
-            for(int i = 0; i < itemAmountInSlot.length; i++) {
-                ItemStack itemInSlot = inputs.get(i);
+            for(int i = 0; i < slots; i++) {
+                ItemStack itemInSlot = recipeInputs.getStackInSlot(i);
                 int itemAmount = itemAmountInSlot[i];
                 if(itemInSlot.isEmpty() || itemInSlot.getCount() == itemAmount)
                     continue;
-                itemInSlot.setCount(itemAmountInSlot[i]);
+                itemInSlot.setCount(itemAmount);
             }
         }
 
         return true;
 	}
 
+    /**
+     * Returns scratch buffer of at least given size owned by current thread.
+     * Matching never calls itself recursively, so it's safe to reuse them and matched inputs across calls
+     */
+	private static int[] getMatchingBuffer(int bufferIndex, int size) {
+	    int[][] buffers = MATCHING_BUFFERS.get();
+	    int[] buffer = buffers[bufferIndex];
+	    if(buffer.length < size) {
+	        buffer = new int[Math.max(size, buffer.length * 2)];
+	        buffers[bufferIndex] = buffer;
+        }
+        return buffer;
+    }
+
 	///////////////////
 	//    Getters    //
 	///////////////////
@@ -203,8 +254,8 @@ public class Recipe {
 	}
 
 	public boolean hasInputFluid(FluidStack fluid) {
-	    for(FluidStack fluidStack : fluidInputs) {
-	        if(fluidStack.isFluidEqual(fluid)) {
+	    for(int i = 0; i < fluidInputs.size(); i++) {
+	        if(fluidInputs.get(i).isFluidEqual(fluid)) {
 	            return true;
             }
         }
@@ -229,8 +280,8 @@ public class Recipe {
 
 	public boolean hasValidInputsForDisplay() {
 	    boolean hasValidInputs = true;
-	    for(CountableIngredient ingredient : inputs) {
-	        ItemStack[] matchingItems = ingredient.getIngredient().getMatchingStacks();
+	    for(int i = 0; i < inputs.size(); i++) {
+	        ItemStack[] matchingItems = inputs.get(i).getIngredient().getMatchingStacks();
 	        hasValidInputs &= Arrays.stream(matchingItems).anyMatch(s -> !s.isEmpty());
         }
         return hasValidInputs;
@@ -0,0 +1,71 @@
+package gregtech.api.recipes;
+
+import gregtech.api.capability.IMultipleTankHandler;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.FluidTank;
+import net.minecraftforge.fluids.IFluidTank;
+import net.minecraftforge.items.IItemHandlerModifiable;
+
+import java.util.List;
+
+/**
+ * Gives uniform access to recipe inputs stored either in machine inventories or in plain lists,
+ * so {@link Recipe} uses single matching algorithm for both of them.
+ * Instances are reused by matching thread, and should be cleared after matching to not retain inventories
+ */
+final class RecipeInputs {
+
+    private IItemHandlerModifiable itemHandler;
+    private IMultipleTankHandler tankHandler;
+    private List<ItemStack> itemList;
+    private List<FluidStack> fluidList;
+
+    RecipeInputs set(IItemHandlerModifiable itemHandler, IMultipleTankHandler tankHandler) {
+        this.itemHandler = itemHandler;
+        this.tankHandler = tankHandler;
+        return this;
+    }
+
+    RecipeInputs set(List<ItemStack> itemList, List<FluidStack> fluidList) {
+        this.itemList = itemList;
+        this.fluidList = fluidList;
+        return this;
+    }
+
+    void clear() {
+        this.itemHandler = null;
+        this.tankHandler = null;
+        this.itemList = null;
+        this.fluidList = null;
+    }
+
+    int getSlots() {
+        return itemHandler != null ? itemHandler.getSlots() : itemList.size();
+    }
+
+    ItemStack getStackInSlot(int slot) {
+        return itemHandler != null ? itemHandler.getStackInSlot(slot) : itemList.get(slot);
+    }
+
+    int getTanks() {
+        return tankHandler != null ? tankHandler.getTanks() : fluidList.size();
+    }
+
+    FluidStack getFluidInTank(int tank) {
+        return tankHandler != null ? tankHandler.getTankAt(tank).getFluid() : fluidList.get(tank);
+    }
+
+    /**
+     * Removes fluid stack drained to zero amount from given tank
+     */
+    void clearEmptyTank(int tank) {
+        if(tankHandler != null) {
+            IFluidTank fluidTank = tankHandler.getTankAt(tank);
+            if(fluidTank instanceof FluidTank)
+                ((FluidTank) fluidTank).setFluid(null);
+        } else {
+            fluidList.set(tank, null);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package gregtech.api.recipes;
+
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import gregtech.api.recipes.ingredients.IntCircuitIngredient;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.crafting.Ingredient;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Narrows down recipes that can possibly match given inputs before {@link Recipe#matches} is called.<p>
+ *
+ * Every recipe is stored in exactly one bucket, keyed by its most selective input: an exact item and metadata,
+ * an item with wildcard metadata, an ore dictionary name or an input fluid. Any recipe matching given inputs
+ * must have it's key present in them, so union of buckets of all inputs is a superset of matching recipes.
+ * Recipes whose inputs cannot be indexed safely (e.g. custom ingredients) are always returned as candidates.<p>
+ *
+ * Candidates are returned in the order recipes were added, so lookup result is the same as for linear scan.
+ * Every recipe remembers bucket it was stored in, so removing it takes constant time.
+ */
+public class RecipeLookupIndex {
+
+    private final Map<Item, ItemBucket> itemBuckets = new IdentityHashMap<>();
+    private final TIntObjectMap<Set<Recipe>> oreDictBuckets = new TIntObjectHashMap<>();
+    private final Map<FluidKey, Set<Recipe>> fluidBuckets = new HashMap<>();
+    private final Set<Recipe> unindexedRecipes = new HashSet<>();
+
+    private final TObjectIntMap<Recipe> recipeOrdinals = new TObjectIntHashMap<>(16, 0.5f, -1);
+    private final Map<Recipe, Set<Recipe>> recipeBuckets = new IdentityHashMap<>();
+    private int nextOrdinal = 0;
+
+    public void addRecipe(Recipe recipe) {
+        if (recipeBuckets.containsKey(recipe))
+            return;
+        recipeOrdinals.put(recipe, nextOrdinal++);
+        Set<Recipe> bucket = getBucketFor(recipe);
+        bucket.add(recipe);
+        recipeBuckets.put(recipe, bucket);
+    }
+
+    public void removeRecipe(Recipe recipe) {
+        Set<Recipe> bucket = recipeBuckets.remove(recipe);
+        if (bucket != null) {
+            recipeOrdinals.remove(recipe);
+            bucket.remove(recipe);
+        }
+    }
+
+    /**
+     * Removes all recipes from the index. Recipes added afterwards are ordered after all previously added ones
+     */
+    public void clear() {
+        itemBuckets.clear();
+        oreDictBuckets.clear();
+        fluidBuckets.clear();
+        unindexedRecipes.clear();
+        recipeOrdinals.clear();
+        recipeBuckets.clear();
+    }
+
+    /**
+     * Collects recipes that can possibly match given inputs, ordered by their registration order
+     *
+     * @param inputs      the Item Inputs
+     * @param fluidInputs the Fluid Inputs
+     * @return list of candidate recipes without duplicates
+     */
+    public List<Recipe> getCandidates(List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+        List<Recipe> candidates = new ArrayList<>(unindexedRecipes);
+        boolean hasOreDictBuckets = !oreDictBuckets.isEmpty();
+        for (ItemStack itemStack : inputs) {
+            if (itemStack.isEmpty()) continue;
+            ItemBucket itemBucket = itemBuckets.get(itemStack.getItem());
+            if (itemBucket != null) {
+                itemBucket.collectRecipes(itemStack.getMetadata(), candidates);
+            }
+            if (hasOreDictBuckets) {
+                for (int oreId : OreDictionary.getOreIDs(itemStack)) {
+                    Set<Recipe> oreBucket = oreDictBuckets.get(oreId);
+                    if (oreBucket != null) candidates.addAll(oreBucket);
+                }
+            }
+        }
+        if (!fluidBuckets.isEmpty()) {
+            for (FluidStack fluidStack : fluidInputs) {
+                if (fluidStack == null) continue;
+                Set<Recipe> fluidBucket = fluidBuckets.get(new FluidKey(fluidStack));
+                if (fluidBucket != null) candidates.addAll(fluidBucket);
+            }
+        }
+        return sortAndRemoveDuplicates(candidates);
+    }
+
+    private List<Recipe> sortAndRemoveDuplicates(List<Recipe> candidates) {
+        if (candidates.size() <= 1) {
+            return candidates;
+        }
+        candidates.sort(Comparator.comparingInt(recipeOrdinals::get));
+        int lastIndex = 0;
+        for (int i = 1; i < candidates.size(); i++) {
+            Recipe recipe = candidates.get(i);
+            if (recipe != candidates.get(lastIndex)) {
+                candidates.set(++lastIndex, recipe);
+            }
+        }
+        return candidates.subList(0, lastIndex + 1);
+    }
+
+    private Set<Recipe> getBucketFor(Recipe recipe) {
+        CountableIngredient keyIngredient = selectKeyIngredient(recipe);
+        if (keyIngredient != null) {
+            String oreDictName = keyIngredient.getOreDictName();
+            if (oreDictName != null) {
+                int oreId = OreDictionary.getOreID(oreDictName);
+                Set<Recipe> bucket = oreDictBuckets.get(oreId);
+                if (bucket == null) {
+                    bucket = new HashSet<>(2);
+                    oreDictBuckets.put(oreId, bucket);
+                }
+                return bucket;
+            }
+            //key ingredient is guaranteed to have exactly one matching stack
+            ItemStack keyStack = keyIngredient.getIngredient().getMatchingStacks()[0];
+            Item keyItem = keyStack.getItem();
+            ItemBucket itemBucket = itemBuckets.computeIfAbsent(keyItem, k -> new ItemBucket());
+            //matching stacks expand wildcard metadata to sub items, which is just metadata 0 for items without subtypes,
+            //while ingredient itself still accepts any metadata, e.g. damaged tools
+            if (!keyItem.getHasSubtypes() || keyItem.isDamageable()) {
+                return itemBucket.getBucket(OreDictionary.WILDCARD_VALUE);
+            }
+            return itemBucket.getBucket(keyStack.getMetadata());
+        }
+        FluidStack keyFluid = selectKeyFluid(recipe);
+        if (keyFluid != null) {
+            return fluidBuckets.computeIfAbsent(new FluidKey(keyFluid), k -> new HashSet<>(2));
+        }
+        return unindexedRecipes;
+    }
+
+    /**
+     * Selects ingredient to key recipe by. Consumed ingredients are preferred over non-consumed ones,
+     * because non-consumed ingredients (like integrated circuits) are usually shared by many recipes
+     */
+    @Nullable
+    private static CountableIngredient selectKeyIngredient(Recipe recipe) {
+        CountableIngredient notConsumedKey = null;
+        for (CountableIngredient ingredient : recipe.getInputs()) {
+            if (!isIndexable(ingredient))
+                continue;
+            if (ingredient.getCount() > 0)
+                return ingredient;
+            if (notConsumedKey == null)
+                notConsumedKey = ingredient;
+        }
+        if (notConsumedKey != null && recipe.getFluidInputs().isEmpty()) {
+            return notConsumedKey;
+        }
+        return null;
+    }
+
+    @Nullable
+    private static FluidStack selectKeyFluid(Recipe recipe) {
+        List<FluidStack> fluidInputs = recipe.getFluidInputs();
+        return fluidInputs.isEmpty() ? null : fluidInputs.get(0);
+    }
+
+    /**
+     * Ingredient is indexable only if it's matching stacks fully describe what it accepts.
+     * It is true for plain ore dictionary ingredients, vanilla item ingredients and integrated circuits
+     */
+    private static boolean isIndexable(CountableIngredient ingredient) {
+        if (ingredient.getOreDictName() != null) {
+            return true;
+        }
+        Ingredient itemIngredient = ingredient.getIngredient();
+        Class<?> ingredientClass = itemIngredient.getClass();
+        if (ingredientClass != Ingredient.class && ingredientClass != IntCircuitIngredient.class) {
+            return false;
+        }
+        ItemStack[] matchingStacks = itemIngredient.getMatchingStacks();
+        return matchingStacks.length == 1 && !matchingStacks[0].isEmpty();
+    }
+
+    private static class ItemBucket {
+
+        private final TIntObjectMap<Set<Recipe>> metadataBuckets = new TIntObjectHashMap<>();
+        private final Set<Recipe> wildcardBucket = new HashSet<>();
+
+        private Set<Recipe> getBucket(int metadata) {
+            if (metadata == OreDictionary.WILDCARD_VALUE) {
+                return wildcardBucket;
+            }
+            Set<Recipe> bucket = metadataBuckets.get(metadata);
+            if (bucket == null) {
+                bucket = new HashSet<>(2);
+                metadataBuckets.put(metadata, bucket);
+            }
+            return bucket;
+        }
+
+        private void collectRecipes(int metadata, List<Recipe> result) {
+            Set<Recipe> bucket = metadataBuckets.get(metadata);
+            if (bucket != null) result.addAll(bucket);
+            result.addAll(wildcardBucket);
+        }
+    }
+}
@@ -39,6 +39,7 @@ import stanhebben.zenscript.annotations.ZenMethod;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.function.DoubleSupplier;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @ZenClass("mods.gregtech.recipe.RecipeMap")
@@ -46,6 +47,7 @@ import java.util.stream.Collectors;
 public class RecipeMap<R extends RecipeBuilder<R>> {
 
 	private static final List<RecipeMap<?>> RECIPE_MAPS = new ArrayList<>();
+	private static final int MISS_CACHE_CAPACITY = 512;
 
 	public final String unlocalizedName;
 
@@ -60,7 +62,10 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 	private MoveType moveType;
 
     private final Map<FluidKey, Collection<Recipe>> recipeFluidMap = new HashMap<>();
-    private final Collection<Recipe> recipeList = new ArrayList<>();
+    private final Set<Recipe> recipeList = new LinkedHashSet<>();
+    private final RecipeLookupIndex lookupIndex = new RecipeLookupIndex();
+    private final RecipeMissCache missCache = new RecipeMissCache(MISS_CACHE_CAPACITY);
+    private final RecipeMapStatistics statistics = new RecipeMapStatistics();
 
 	public RecipeMap(String unlocalizedName,
                      int minInputs, int maxInputs, int minOutputs, int maxOutputs,
@@ -148,32 +153,93 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 
 	//internal usage only, use buildAndRegister()
 	public void addRecipe(ValidationResult<Recipe> validationResult) {
-		switch (validationResult.getType()) {
-			case SKIP:
-				return;
-			case INVALID:
-				setFoundInvalidRecipe(true);
-				return;
-		}
-		Recipe recipe = validationResult.getResult();
-		recipeList.add(recipe);
-
-		for (FluidStack fluid : recipe.getFluidInputs()) {
-			recipeFluidMap.computeIfAbsent(new FluidKey(fluid), k -> new HashSet<>(1)).add(recipe);
-		}
+		if (addValidatedRecipe(validationResult)) {
+		    missCache.clear();
+        }
 	}
 
+    /**
+     * Adds all given recipes at once, clearing lookup caches only once
+     * @return amount of recipes actually added
+     */
+    public int addAll(Collection<ValidationResult<Recipe>> validationResults) {
+        int recipesAdded = 0;
+        for (ValidationResult<Recipe> validationResult : validationResults) {
+            if (addValidatedRecipe(validationResult)) {
+                recipesAdded++;
+            }
+        }
+        if (recipesAdded > 0) {
+            missCache.clear();
+        }
+        return recipesAdded;
+    }
+
+    //adds and indexes recipe if it is valid, leaving lookup caches to the caller
+    private boolean addValidatedRecipe(ValidationResult<Recipe> validationResult) {
+        switch (validationResult.getType()) {
+            case SKIP:
+                return false;
+            case INVALID:
+                setFoundInvalidRecipe(true);
+                return false;
+        }
+        Recipe recipe = validationResult.getResult();
+        if (recipeList.add(recipe)) {
+            indexRecipe(recipe);
+            return true;
+        }
+        return false;
+    }
+
 	public boolean removeRecipe(Recipe recipe) {
 	    //if we actually removed this recipe
 	    if(recipeList.remove(recipe)) {
-	        //also iterate trough fluid mappings and remove recipe from them
-	        recipeFluidMap.values().forEach(fluidMap ->
-                fluidMap.removeIf(fluidRecipe -> fluidRecipe == recipe));
+	        unindexRecipe(recipe);
+	        missCache.clear();
 	        return true;
         }
         return false;
     }
 
+    /**
+     * Removes all recipes matching given predicate. Lookup indexes are rebuilt once
+     * after removal, so it is much faster than removing recipes one by one
+     * @return amount of recipes removed
+     */
+    public int removeAll(Predicate<Recipe> filter) {
+        int oldRecipesCount = recipeList.size();
+        if (!recipeList.removeIf(filter)) {
+            return 0;
+        }
+        lookupIndex.clear();
+        recipeFluidMap.clear();
+        for (Recipe recipe : recipeList) {
+            indexRecipe(recipe);
+        }
+        missCache.clear();
+        return oldRecipesCount - recipeList.size();
+    }
+
+    private void indexRecipe(Recipe recipe) {
+        lookupIndex.addRecipe(recipe);
+        for (FluidStack fluid : recipe.getFluidInputs()) {
+            recipeFluidMap.computeIfAbsent(new FluidKey(fluid), k -> new HashSet<>(1)).add(recipe);
+        }
+    }
+
+    private void unindexRecipe(Recipe recipe) {
+        lookupIndex.removeRecipe(recipe);
+        //recipe fluid inputs are exactly the keys it was stored under
+        for (FluidStack fluid : recipe.getFluidInputs()) {
+            FluidKey fluidKey = new FluidKey(fluid);
+            Collection<Recipe> fluidRecipes = recipeFluidMap.get(fluidKey);
+            if (fluidRecipes != null && fluidRecipes.remove(recipe) && fluidRecipes.isEmpty()) {
+                recipeFluidMap.remove(fluidKey);
+            }
+        }
+    }
+
     @Nullable
     public Recipe findRecipe(long voltage, IItemHandlerModifiable inputs, IMultipleTankHandler fluidInputs) {
         return this.findRecipe(voltage, GTUtility.itemHandlerToList(inputs), GTUtility.fluidHandlerToList(fluidInputs));
@@ -189,6 +255,14 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 	 */
 	@Nullable
 	public Recipe findRecipe(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+        long startTime = System.nanoTime();
+        Recipe matchingRecipe = lookupRecipe(voltage, inputs, fluidInputs);
+        statistics.recordLookup(matchingRecipe != null, System.nanoTime() - startTime);
+        return matchingRecipe;
+    }
+
+    @Nullable
+    private Recipe lookupRecipe(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
         if (recipeList.isEmpty())
             return null;
         if (minFluidInputs > 0 && GTUtility.amountOfNonNullElements(fluidInputs) < minFluidInputs) {
@@ -197,37 +271,20 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         if (minInputs > 0 && GTUtility.amountOfNonEmptyStacks(inputs) < minInputs) {
             return null;
         }
-        if (maxInputs > 0) {
-            return findByInputs(voltage, inputs, fluidInputs);
-        } else {
-            return findByFluidInputs(voltage, inputs, fluidInputs);
-        }
-    }
-
-    @Nullable
-    private Recipe findByFluidInputs(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-        for (FluidStack fluid : fluidInputs) {
-            if (fluid == null) continue;
-            Collection<Recipe> recipes = recipeFluidMap.get(new FluidKey(fluid));
-            if (recipes == null) continue;
-            for (Recipe tmpRecipe : recipes) {
-                if (tmpRecipe.matches(false, inputs, fluidInputs)) {
-                    return voltage * amperage >= tmpRecipe.getEUt() ? tmpRecipe : null;
-                }
-            }
+        if (missCache.isKnownMiss(voltage, inputs, fluidInputs)) {
+            statistics.recordCachedMiss();
+            return null;
         }
-        return null;
-    }
-
-	@Nullable
-	private Recipe findByInputs(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
-        for (Recipe recipe : recipeList) {
+        for (Recipe recipe : lookupIndex.getCandidates(inputs, fluidInputs)) {
+            statistics.recordCandidateScanned();
             if (recipe.matches(false, inputs, fluidInputs)) {
+                //not cached as a miss, since less inputs can match another recipe with lower voltage
                 return voltage * amperage >= recipe.getEUt() ? recipe : null;
             }
         }
-		return null;
-	}
+        missCache.addMiss(voltage, inputs, fluidInputs);
+        return null;
+    }
 
 	//this DOES NOT addFlag machine control widgets or binds player inventory
 	public ModularUI.Builder createUITemplate(DoubleSupplier progressSupplier, IItemHandlerModifiable importItems, IItemHandlerModifiable exportItems, FluidTankList importFluids, FluidTankList exportFluids) {
@@ -324,6 +381,10 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
         return Collections.unmodifiableCollection(recipeList);
     }
 
+    public RecipeMapStatistics getStatistics() {
+        return statistics;
+    }
+
     @ZenMethod("findRecipe")
     @Method(modid = GTValues.MODID_CT)
     public CTRecipe ctFindRecipe(long maxVoltage, IItemStack[] itemInputs, ILiquidStack[] fluidInputs) {
@@ -339,6 +400,16 @@ public class RecipeMap<R extends RecipeBuilder<R>> {
 	    return backingRecipe == null ? null : new CTRecipe(this, backingRecipe);
     }
 
+    @ZenMethod("removeRecipes")
+    @Method(modid = GTValues.MODID_CT)
+    public int ctRemoveRecipes(CTRecipe[] recipes) {
+        Set<Recipe> recipesToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (CTRecipe recipe : recipes) {
+            recipesToRemove.add(recipe.getBackingRecipe());
+        }
+        return removeAll(recipesToRemove::contains);
+    }
+
     @ZenGetter("recipes")
     @Method(modid = GTValues.MODID_CT)
     public List<CTRecipe> ccGetRecipeList() {
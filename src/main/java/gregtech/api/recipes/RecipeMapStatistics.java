@@ -0,0 +1,80 @@
+package gregtech.api.recipes;
+
+/**
+ * Lookup counters of a single recipe map, used to find out which recipe maps take most of the tick time.
+ * Counters are plain fields updated without synchronization, so values collected while
+ * lookups happen on multiple threads (e.g. integrated server and JEI) can be slightly off.
+ */
+public class RecipeMapStatistics {
+
+    private long lookups;
+    private long hits;
+    private long misses;
+    private long cachedMisses;
+    private long candidatesScanned;
+    private long lookupNanos;
+
+    void recordLookup(boolean isHit, long nanos) {
+        this.lookups++;
+        if (isHit) {
+            this.hits++;
+        } else {
+            this.misses++;
+        }
+        this.lookupNanos += nanos;
+    }
+
+    void recordCachedMiss() {
+        this.cachedMisses++;
+    }
+
+    void recordCandidateScanned() {
+        this.candidatesScanned++;
+    }
+
+    public void reset() {
+        this.lookups = 0;
+        this.hits = 0;
+        this.misses = 0;
+        this.cachedMisses = 0;
+        this.candidatesScanned = 0;
+        this.lookupNanos = 0;
+    }
+
+    public long getLookups() {
+        return lookups;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return amount of lookups which haven't found any recipe, including cached misses
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return amount of misses answered by miss cache without scanning any recipes
+     */
+    public long getCachedMisses() {
+        return cachedMisses;
+    }
+
+    /**
+     * @return amount of recipes {@link Recipe#matches} was called on during lookups
+     */
+    public long getCandidatesScanned() {
+        return candidatesScanned;
+    }
+
+    public long getLookupNanos() {
+        return lookupNanos;
+    }
+
+    public double getAverageLookupNanos() {
+        return lookups == 0 ? 0.0 : lookupNanos / (double) lookups;
+    }
+}
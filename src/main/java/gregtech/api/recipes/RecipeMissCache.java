@@ -0,0 +1,192 @@
+package gregtech.api.recipes;
+
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bounded cache of input signatures known to match no recipe in a recipe map.<p>
+ *
+ * Signature is keyed by items with their metadata and tags, fluids with their tags, and voltage used for the search.
+ * Item counts and fluid amounts are not part of the key: recipe matching only gets easier with more inputs,
+ * so signature stores amounts of the last miss, and inputs of the same kinds with no greater amounts are known misses.
+ * Miss of already known kinds of inputs updates stored amounts in place, so changing stack sizes neither allocate
+ * nor evict other signatures. Probing the cache compares signature with live inputs directly,
+ * so repeated failed lookup costs one hash computation and does not allocate.
+ * Signatures are evicted in insertion order once capacity is reached.<p>
+ *
+ * Cache must be cleared whenever recipes are added or removed from the map.
+ */
+public class RecipeMissCache {
+
+    private final TLongObjectMap<Signature> signatures;
+    private final Signature[] insertionOrder;
+    private int nextInsertionIndex = 0;
+
+    public RecipeMissCache(int capacity) {
+        this.signatures = new TLongObjectHashMap<>(capacity);
+        this.insertionOrder = new Signature[capacity];
+    }
+
+    public boolean isKnownMiss(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+        if (signatures.isEmpty()) {
+            return false;
+        }
+        Signature signature = signatures.get(computeHash(voltage, inputs, fluidInputs));
+        return signature != null && signature.matches(voltage, inputs, fluidInputs) && signature.coversAmounts(inputs, fluidInputs);
+    }
+
+    public void addMiss(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+        long hash = computeHash(voltage, inputs, fluidInputs);
+        Signature existingSignature = signatures.get(hash);
+        if (existingSignature != null && existingSignature.matches(voltage, inputs, fluidInputs)) {
+            existingSignature.setAmounts(inputs, fluidInputs);
+            return;
+        }
+        Signature evictedSignature = insertionOrder[nextInsertionIndex];
+        if (evictedSignature != null && signatures.get(evictedSignature.hash) == evictedSignature) {
+            signatures.remove(evictedSignature.hash);
+        }
+        Signature signature = new Signature(hash, voltage, inputs, fluidInputs);
+        signatures.put(hash, signature);
+        insertionOrder[nextInsertionIndex] = signature;
+        this.nextInsertionIndex = (nextInsertionIndex + 1) % insertionOrder.length;
+    }
+
+    public void clear() {
+        if (!signatures.isEmpty()) {
+            signatures.clear();
+            Arrays.fill(insertionOrder, null);
+            this.nextInsertionIndex = 0;
+        }
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    private static long computeHash(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+        long hash = voltage;
+        for (int i = 0; i < inputs.size(); i++) {
+            ItemStack itemStack = inputs.get(i);
+            if (itemStack.isEmpty()) {
+                hash = hash * 31;
+                continue;
+            }
+            hash = hash * 31 + itemStack.getItem().hashCode();
+            hash = hash * 31 + itemStack.getMetadata();
+            hash = hash * 31 + Objects.hashCode(itemStack.getTagCompound());
+        }
+        for (int i = 0; i < fluidInputs.size(); i++) {
+            FluidStack fluidStack = fluidInputs.get(i);
+            if (fluidStack == null) {
+                hash = hash * 31;
+                continue;
+            }
+            hash = hash * 31 + fluidStack.getFluid().getName().hashCode();
+            hash = hash * 31 + Objects.hashCode(fluidStack.tag);
+        }
+        return hash;
+    }
+
+    private static class Signature {
+
+        private final long hash;
+        private final long voltage;
+        private final Item[] items;
+        private final int[] itemMetadata;
+        //amounts of the last miss with these kinds of inputs
+        private final int[] itemCounts;
+        private final NBTTagCompound[] itemTags;
+        private final String[] fluids;
+        private final int[] fluidAmounts;
+        private final NBTTagCompound[] fluidTags;
+
+        private Signature(long hash, long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+            this.hash = hash;
+            this.voltage = voltage;
+            this.items = new Item[inputs.size()];
+            this.itemMetadata = new int[inputs.size()];
+            this.itemCounts = new int[inputs.size()];
+            this.itemTags = new NBTTagCompound[inputs.size()];
+            for (int i = 0; i < inputs.size(); i++) {
+                ItemStack itemStack = inputs.get(i);
+                if (itemStack.isEmpty()) continue;
+                this.items[i] = itemStack.getItem();
+                this.itemMetadata[i] = itemStack.getMetadata();
+                this.itemTags[i] = copyTag(itemStack.getTagCompound());
+            }
+            this.fluids = new String[fluidInputs.size()];
+            this.fluidAmounts = new int[fluidInputs.size()];
+            this.fluidTags = new NBTTagCompound[fluidInputs.size()];
+            for (int i = 0; i < fluidInputs.size(); i++) {
+                FluidStack fluidStack = fluidInputs.get(i);
+                if (fluidStack == null) continue;
+                this.fluids[i] = fluidStack.getFluid().getName();
+                this.fluidTags[i] = copyTag(fluidStack.tag);
+            }
+            setAmounts(inputs, fluidInputs);
+        }
+
+        private void setAmounts(List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+            for (int i = 0; i < items.length; i++) {
+                this.itemCounts[i] = inputs.get(i).getCount();
+            }
+            for (int i = 0; i < fluids.length; i++) {
+                FluidStack fluidStack = fluidInputs.get(i);
+                this.fluidAmounts[i] = fluidStack == null ? 0 : fluidStack.amount;
+            }
+        }
+
+        //inputs of the same kinds are known to miss if they have no more items or fluids than missed ones
+        private boolean coversAmounts(List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+            for (int i = 0; i < items.length; i++) {
+                if (inputs.get(i).getCount() > itemCounts[i]) return false;
+            }
+            for (int i = 0; i < fluids.length; i++) {
+                FluidStack fluidStack = fluidInputs.get(i);
+                if (fluidStack != null && fluidStack.amount > fluidAmounts[i]) return false;
+            }
+            return true;
+        }
+
+        private boolean matches(long voltage, List<ItemStack> inputs, List<FluidStack> fluidInputs) {
+            if (this.voltage != voltage || items.length != inputs.size() || fluids.length != fluidInputs.size()) {
+                return false;
+            }
+            for (int i = 0; i < items.length; i++) {
+                ItemStack itemStack = inputs.get(i);
+                if (itemStack.isEmpty()) {
+                    if (items[i] != null) return false;
+                } else if (items[i] != itemStack.getItem() ||
+                    itemMetadata[i] != itemStack.getMetadata() ||
+                    !Objects.equals(itemTags[i], itemStack.getTagCompound())) {
+                    return false;
+                }
+            }
+            for (int i = 0; i < fluids.length; i++) {
+                FluidStack fluidStack = fluidInputs.get(i);
+                if (fluidStack == null) {
+                    if (fluids[i] != null) return false;
+                } else if (!fluidStack.getFluid().getName().equals(fluids[i]) ||
+                    !Objects.equals(fluidTags[i], fluidStack.tag)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Nullable
+        private static NBTTagCompound copyTag(@Nullable NBTTagCompound tagCompound) {
+            return tagCompound == null ? null : tagCompound.copy();
+        }
+    }
+}
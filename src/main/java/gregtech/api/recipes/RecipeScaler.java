@@ -0,0 +1,71 @@
+package gregtech.api.recipes;
+
+import gnu.trove.map.TObjectIntMap;
+import gnu.trove.map.hash.TObjectIntHashMap;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates recipes performing given amount of copies of other recipe at once.
+ * Scaled recipe has same duration, but multiplied inputs, outputs and energy usage
+ */
+public class RecipeScaler {
+
+    public static Recipe scaleRecipe(Recipe recipe, int multiplier) {
+        if (multiplier == 1) {
+            return recipe;
+        }
+        List<CountableIngredient> inputs = new ArrayList<>();
+        for (CountableIngredient ingredient : recipe.getInputs()) {
+            //non-consumed ingredients have zero count, so they stay non-consumed
+            inputs.add(new CountableIngredient(ingredient.getIngredient(),
+                ingredient.getCount() * multiplier, ingredient.getOreDictName()));
+        }
+        List<ItemStack> outputs = new ArrayList<>();
+        for (ItemStack output : recipe.getOutputs()) {
+            addSplitStacks(outputs, output, output.getCount() * multiplier);
+        }
+        //chanced outputs are rolled separately for every copy of the recipe
+        TObjectIntMap<ItemStack> chancedOutputs = new TObjectIntHashMap<>();
+        TObjectIntMap<ItemStack> originalChancedOutputs = recipe.getChancedOutputs();
+        for (ItemStack chancedOutput : originalChancedOutputs.keySet()) {
+            int outputChance = originalChancedOutputs.get(chancedOutput);
+            for (int i = 0; i < multiplier; i++) {
+                chancedOutputs.put(chancedOutput.copy(), outputChance);
+            }
+        }
+        List<FluidStack> fluidInputs = scaleFluids(recipe.getFluidInputs(), multiplier);
+        List<FluidStack> fluidOutputs = scaleFluids(recipe.getFluidOutputs(), multiplier);
+        Map<String, Object> recipeProperties = new HashMap<>();
+        for (String propertyKey : recipe.getPropertyKeys()) {
+            recipeProperties.put(propertyKey, recipe.getProperty(propertyKey));
+        }
+        return new Recipe(inputs, outputs, chancedOutputs, fluidInputs, fluidOutputs, recipeProperties,
+            recipe.getDuration(), recipe.getEUt() * multiplier, recipe.isHidden(), false, recipe.needsEmptyOutput());
+    }
+
+    private static void addSplitStacks(List<ItemStack> result, ItemStack itemStack, int totalAmount) {
+        int maxStackSize = itemStack.getMaxStackSize();
+        while (totalAmount > 0) {
+            ItemStack splitStack = itemStack.copy();
+            splitStack.setCount(Math.min(maxStackSize, totalAmount));
+            totalAmount -= splitStack.getCount();
+            result.add(splitStack);
+        }
+    }
+
+    private static List<FluidStack> scaleFluids(List<FluidStack> fluidStacks, int multiplier) {
+        List<FluidStack> result = new ArrayList<>();
+        for (FluidStack fluidStack : fluidStacks) {
+            FluidStack scaledStack = fluidStack.copy();
+            scaledStack.amount = fluidStack.amount * multiplier;
+            result.add(scaledStack);
+        }
+        return result;
+    }
+}
@@ -1,5 +1,6 @@
 package gregtech.api.recipes.builders;
 
+import com.google.common.collect.ImmutableList;
 import gregtech.api.unification.material.Materials;
 
 public class AssemblerRecipeBuilder extends IntCircuitRecipeBuilder {
@@ -9,9 +10,10 @@ public class AssemblerRecipeBuilder extends IntCircuitRecipeBuilder {
         if(fluidInputs.size() == 1 && fluidInputs.get(0).getFluid() == Materials.SolderingAlloy.getMaterialFluid()) {
             int amount = fluidInputs.get(0).amount;
             fluidInputs.clear();
-            recipeMap.addRecipe(this.copy().fluidInputs(Materials.SolderingAlloy.getFluid(amount)).build());
-            recipeMap.addRecipe(this.copy().fluidInputs(Materials.Tin.getFluid((int) (amount * 1.5))).build());
-            recipeMap.addRecipe(this.copy().fluidInputs(Materials.Lead.getFluid(amount * 2)).build());
+            recipeMap.addAll(ImmutableList.of(
+                this.copy().fluidInputs(Materials.SolderingAlloy.getFluid(amount)).build(),
+                this.copy().fluidInputs(Materials.Tin.getFluid((int) (amount * 1.5))).build(),
+                this.copy().fluidInputs(Materials.Lead.getFluid(amount * 2)).build()));
         } else {
             recipeMap.addRecipe(build());
         }
@@ -1,5 +1,6 @@
 package gregtech.api.recipes.builders;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import gregtech.api.recipes.*;
 import gregtech.api.unification.material.Materials;
@@ -37,14 +38,15 @@ public class CrackingRecipeBuilder extends RecipeBuilder<CrackingRecipeBuilder>
             FluidStack inputFluid = fluidInputs.get(0);
             FluidStack outputFluid = fluidOutputs.get(0);
             fluidOutputs.clear();
-            recipeMap.addRecipe(this.copy()
-                .fluidInputs(ModHandler.getSteam(inputFluid.amount))
-                .fluidOutputs(new FluidStack(outputFluid.getFluid(), outputFluid.amount))
-                .build());
-            recipeMap.addRecipe(this.copy()
-                .fluidInputs(Materials.Hydrogen.getFluid(inputFluid.amount))
-                .fluidOutputs(new FluidStack(outputFluid.getFluid(), outputFluid.amount))
-                .build());
+            recipeMap.addAll(ImmutableList.of(
+                this.copy()
+                    .fluidInputs(ModHandler.getSteam(inputFluid.amount))
+                    .fluidOutputs(new FluidStack(outputFluid.getFluid(), outputFluid.amount))
+                    .build(),
+                this.copy()
+                    .fluidInputs(Materials.Hydrogen.getFluid(inputFluid.amount))
+                    .fluidOutputs(new FluidStack(outputFluid.getFluid(), outputFluid.amount))
+                    .build()));
         }
     }
         /*super.buildAndRegister();
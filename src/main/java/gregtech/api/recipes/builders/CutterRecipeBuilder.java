@@ -1,5 +1,6 @@
 package gregtech.api.recipes.builders;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import gregtech.api.recipes.ModHandler;
 import gregtech.api.recipes.Recipe;
@@ -36,15 +37,16 @@ public class CutterRecipeBuilder extends RecipeBuilder<CutterRecipeBuilder> {
     @Override
     public void buildAndRegister() {
         if (fluidInputs.isEmpty()) {
-            recipeMap.addRecipe(this.copy()
-                .fluidInputs(Materials.Water.getFluid(Math.max(4, Math.min(1000, duration * EUt / 320))))
-                .duration(duration * 2).build());
-            recipeMap.addRecipe(this.copy()
-                .fluidInputs(ModHandler.getDistilledWater(Math.max(3, Math.min(750, duration * EUt / 426))))
-                .duration(duration * 2).build());
-            recipeMap.addRecipe(this.copy()
-                .fluidInputs(Materials.Lubricant.getFluid(Math.max(1, Math.min(250, duration * EUt / 1280))))
-                .duration(Math.max(1, duration / 2)).build());
+            recipeMap.addAll(ImmutableList.of(
+                this.copy()
+                    .fluidInputs(Materials.Water.getFluid(Math.max(4, Math.min(1000, duration * EUt / 320))))
+                    .duration(duration * 2).build(),
+                this.copy()
+                    .fluidInputs(ModHandler.getDistilledWater(Math.max(3, Math.min(750, duration * EUt / 426))))
+                    .duration(duration * 2).build(),
+                this.copy()
+                    .fluidInputs(Materials.Lubricant.getFluid(Math.max(1, Math.min(250, duration * EUt / 1280))))
+                    .duration(Math.max(1, duration / 2)).build()));
         } else {
             recipeMap.addRecipe(build());
         }
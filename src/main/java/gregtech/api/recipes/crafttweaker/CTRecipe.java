@@ -30,6 +30,10 @@ public class CTRecipe {
         this.backingRecipe = backingRecipe;
     }
 
+    public Recipe getBackingRecipe() {
+        return backingRecipe;
+    }
+
     @ZenGetter("inputs")
     public List<InputIngredient> getInputs() {
         return this.backingRecipe.getInputs().stream()
@@ -1,18 +1,28 @@
 package gregtech.api.recipes.machines;
 
+import gnu.trove.map.TIntObjectMap;
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gregtech.api.recipes.FurnaceRecipeIndex;
 import gregtech.api.recipes.ModHandler;
 import gregtech.api.recipes.Recipe;
 import gregtech.api.recipes.RecipeMap;
 import gregtech.api.recipes.builders.SimpleRecipeBuilder;
 import gregtech.api.util.GTUtility;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 
 import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class RecipeMapFurnace extends RecipeMap<SimpleRecipeBuilder> {
 
+    //generated smelting recipes, keyed by input item and metadata
+    private final Map<Item, TIntObjectMap<Recipe>> smeltingRecipeCache = new IdentityHashMap<>();
+    private int cachedIndexVersion = -1;
+
     public RecipeMapFurnace(String unlocalizedName, int minInputs, int maxInputs, int minOutputs, int maxOutputs, int minFluidInputs, int maxFluidInputs, int minFluidOutputs, int maxFluidOutputs, int amperage, SimpleRecipeBuilder defaultRecipe) {
         super(unlocalizedName, minInputs, maxInputs, minOutputs, maxOutputs, minFluidInputs, maxFluidInputs, minFluidOutputs, maxFluidOutputs, amperage, defaultRecipe);
     }
@@ -23,10 +33,37 @@ public class RecipeMapFurnace extends RecipeMap<SimpleRecipeBuilder> {
         Recipe normalRecipe = super.findRecipe(voltage, inputs, fluidInputs);
         if (normalRecipe != null || inputs.size() == 0 || inputs.get(0).isEmpty())
             return normalRecipe;
-        ItemStack output = ModHandler.getSmeltingOutput(inputs.get(0));
+        return findSmeltingRecipe(inputs.get(0));
+    }
+
+    @Nullable
+    private Recipe findSmeltingRecipe(ItemStack input) {
+        if(!FurnaceRecipeIndex.isFrozen()) {
+            //smelting recipes are still being registered, so don't cache anything yet
+            return createSmeltingRecipe(input);
+        }
+        int indexVersion = FurnaceRecipeIndex.getIndexVersion();
+        if(indexVersion != cachedIndexVersion) {
+            this.smeltingRecipeCache.clear();
+            this.cachedIndexVersion = indexVersion;
+        }
+        TIntObjectMap<Recipe> itemRecipes = smeltingRecipeCache.computeIfAbsent(input.getItem(), k -> new TIntObjectHashMap<>(4));
+        int metadata = input.getMetadata();
+        //recipes are cached together with misses to avoid looking up smelting output again
+        if(itemRecipes.containsKey(metadata)) {
+            return itemRecipes.get(metadata);
+        }
+        Recipe recipe = createSmeltingRecipe(input);
+        itemRecipes.put(metadata, recipe);
+        return recipe;
+    }
+
+    @Nullable
+    private Recipe createSmeltingRecipe(ItemStack input) {
+        ItemStack output = ModHandler.getSmeltingOutput(input);
         return output.isEmpty() ? null : this.recipeBuilder()
             .notOptimized()
-            .inputs(GTUtility.copyAmount(1, inputs.get(0)))
+            .inputs(GTUtility.copyAmount(1, input))
             .outputs(output)
             .duration(128).EUt(4)
             .build().getResult();
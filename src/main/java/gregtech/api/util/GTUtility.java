@@ -401,6 +401,10 @@ public class GTUtility {
     }
 
     public static void writeItems(IItemHandler handler, String tagName, NBTTagCompound tag) {
+        tag.setTag(tagName, writeItems(handler));
+    }
+
+    public static NBTTagList writeItems(IItemHandler handler) {
         NBTTagList tagList = new NBTTagList();
 
         for (int i = 0; i < handler.getSlots(); i++) {
@@ -412,7 +416,7 @@ public class GTUtility {
             }
         }
 
-        tag.setTag(tagName, tagList);
+        return tagList;
     }
 
     public static void readItems(IItemHandlerModifiable handler, String tagName, NBTTagCompound tag) {
@@ -49,6 +49,26 @@ public class ConfigHolder {
     @Config.RequiresWorldRestart
     public static boolean insufficientEnergySupplyWipesRecipeProgress = false;
 
+    @Config.RangeInt(min = 1, max = 256)
+    @Config.Comment("Max amount of recipe copies electric multiblocks can process at once in batch mode, limited by energy hatches and output space. " +
+        "1 disables batch mode. Default: 1")
+    public static int multiblockMaxParallelRecipes = 1;
+
+    @Config.RangeInt(min = 0)
+    @Config.Comment("Milliseconds GregTech machines can spend updating in each dimension per tick before low priority periodic work " +
+        "(auto-output, structure checks, pump scans, recipe searches) is deferred to later ticks. Recipes in progress are never deferred. " +
+        "0 disables the limit. Default: 0")
+    public static int machineTickBudget = 0;
+
+    @Config.Comment("Per-dimension overrides of machineTickBudget, in format <dimension id>=<milliseconds>, e.g. -1=5. " +
+        "0 disables the limit in given dimension.")
+    public static String[] dimensionMachineTickBudgets = new String[0];
+
+    @Config.RangeInt(min = 1)
+    @Config.Comment("Max amount of ticks low priority periodic work of machine can be deferred by exhausted machineTickBudget " +
+        "before it is run anyway. Default: 100")
+    public static int maxDeferredWorkTicks = 100;
+
     @Config.Comment("Whether to use modPriorities setting in config for prioritizing ore dictionary item registrations. " +
         "By default, GTCE will sort ore dictionary registrations alphabetically comparing their owner ModIDs.")
     public static boolean useCustomModPriorities = false;
@@ -0,0 +1,29 @@
+package gregtech.common.command.profiler;
+
+import gregtech.api.metatileentity.TickProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+public class CommandProfilerStart extends CommandBase {
+
+    @Override
+    public String getName() {
+        return "start";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.profiler.start.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) {
+        TickProfiler.start();
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.start.success")
+            .setStyle(new Style().setColor(TextFormatting.GREEN)));
+    }
+}
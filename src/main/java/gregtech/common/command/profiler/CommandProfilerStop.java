@@ -0,0 +1,35 @@
+package gregtech.common.command.profiler;
+
+import gregtech.api.metatileentity.TickProfiler;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+public class CommandProfilerStop extends CommandBase {
+
+    @Override
+    public String getName() {
+        return "stop";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.profiler.stop.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) {
+        if (!TickProfiler.isProfiling()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.stop.not_running")
+                .setStyle(new Style().setColor(TextFormatting.RED)));
+            return;
+        }
+        TickProfiler.stop();
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.stop.success",
+            String.format("%.1f", TickProfiler.getProfilingDuration() / 1_000_000_000.0))
+            .setStyle(new Style().setColor(TextFormatting.GREEN)));
+    }
+}
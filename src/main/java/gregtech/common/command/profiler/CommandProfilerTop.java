@@ -0,0 +1,92 @@
+package gregtech.common.command.profiler;
+
+import gregtech.api.metatileentity.TickProfiler;
+import gregtech.api.metatileentity.TickProfiler.Entry;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+import org.apache.commons.lang3.tuple.Triple;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class CommandProfilerTop extends CommandBase {
+
+    private static final int DEFAULT_ENTRIES_COUNT = 10;
+
+    @Override
+    public String getName() {
+        return "top";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.profiler.top.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        int entriesCount = args.length > 0 ? parseInt(args[0], 1) : DEFAULT_ENTRIES_COUNT;
+        if (TickProfiler.getMetaTileEntityEntries().isEmpty()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.top.empty"));
+            return;
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.top.duration",
+            String.format("%.1f", TickProfiler.getProfilingDuration() / 1_000_000_000.0)));
+        sendClassEntries(sender, "gregtech.command.profiler.top.meta_tile_entities",
+            TickProfiler.getMetaTileEntityEntries(), entriesCount);
+        sendClassEntries(sender, "gregtech.command.profiler.top.traits",
+            TickProfiler.getTraitEntries(), entriesCount);
+
+        //flatten per-dimension chunk maps to sort chunks of all dimensions together
+        List<Triple<Integer, Long, Entry>> chunkEntries = new ArrayList<>();
+        TickProfiler.getChunkEntries().forEachEntry((dimension, dimensionEntries) ->
+            dimensionEntries.forEachEntry((chunkKey, entry) -> chunkEntries.add(Triple.of(dimension, chunkKey, entry))));
+        chunkEntries.sort(Comparator.comparingLong((Triple<Integer, Long, Entry> triple) -> triple.getRight().getNanos()).reversed());
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.top.chunks")
+            .setStyle(new Style().setColor(TextFormatting.GOLD)));
+        for (Triple<Integer, Long, Entry> triple : chunkEntries.subList(0, Math.min(entriesCount, chunkEntries.size()))) {
+            long chunkKey = triple.getMiddle();
+            //inverse of ChunkPos.asLong
+            int chunkX = (int) chunkKey;
+            int chunkZ = (int) (chunkKey >> 32);
+            Entry entry = triple.getRight();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.top.chunk_entry",
+                String.valueOf(triple.getLeft()), String.valueOf(chunkX), String.valueOf(chunkZ),
+                String.valueOf(chunkX << 4), String.valueOf(chunkZ << 4),
+                formatMillis(entry), formatCount(entry.getUpdates()), formatCount(entry.getCustomDataBytes())));
+        }
+    }
+
+    private static void sendClassEntries(ICommandSender sender, String headerKey, Map<Class<?>, Entry> entries, int entriesCount) {
+        List<Map.Entry<Class<?>, Entry>> topEntries = entries.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<Class<?>, Entry> mapEntry) -> mapEntry.getValue().getNanos()).reversed())
+            .limit(entriesCount)
+            .collect(Collectors.toList());
+        sender.sendMessage(new TextComponentTranslation(headerKey)
+            .setStyle(new Style().setColor(TextFormatting.GOLD)));
+        for (Map.Entry<Class<?>, Entry> mapEntry : topEntries) {
+            Entry entry = mapEntry.getValue();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.profiler.top.entry",
+                mapEntry.getKey().getSimpleName(), formatMillis(entry),
+                String.format("%.0f", entry.getAverageNanos()),
+                formatCount(entry.getUpdates()), formatCount(entry.getCustomDataBytes())));
+        }
+    }
+
+    //translated messages substitute only %s, so numbers are formatted here
+    private static String formatMillis(Entry entry) {
+        return String.format("%.2f", entry.getNanos() / 1_000_000.0);
+    }
+
+    private static String formatCount(long count) {
+        return String.format("%,d", count);
+    }
+}
@@ -0,0 +1,60 @@
+package gregtech.common.command.recipes;
+
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.RecipeMapStatistics;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CommandRecipeStats extends CommandBase {
+
+    private static final int DEFAULT_ENTRIES_COUNT = 10;
+
+    @Override
+    public String getName() {
+        return "stats";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.recipes.stats.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        int entriesCount = args.length > 0 ? parseInt(args[0], 1) : DEFAULT_ENTRIES_COUNT;
+        List<RecipeMap<?>> recipeMaps = RecipeMap.getRecipeMaps().stream()
+            .filter(recipeMap -> recipeMap.getStatistics().getLookups() > 0)
+            .sorted(Comparator.comparingLong((RecipeMap<?> recipeMap) -> recipeMap.getStatistics().getLookupNanos()).reversed())
+            .limit(entriesCount)
+            .collect(Collectors.toList());
+        if (recipeMaps.isEmpty()) {
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipes.stats.empty"));
+            return;
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.recipes.stats.header")
+            .setStyle(new Style().setColor(TextFormatting.GOLD)));
+        for (RecipeMap<?> recipeMap : recipeMaps) {
+            RecipeMapStatistics statistics = recipeMap.getStatistics();
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipes.stats.entry",
+                recipeMap.getUnlocalizedName(), formatCount(statistics.getLookups()), formatCount(statistics.getHits()),
+                formatCount(statistics.getMisses()), formatCount(statistics.getCachedMisses()),
+                formatCount(statistics.getCandidatesScanned()),
+                String.format("%.2f", statistics.getLookupNanos() / 1_000_000.0),
+                String.format("%.0f", statistics.getAverageLookupNanos())));
+        }
+    }
+
+    //translated messages substitute only %s, so numbers are formatted here
+    private static String formatCount(long count) {
+        return String.format("%,d", count);
+    }
+}
@@ -0,0 +1,60 @@
+package gregtech.common.command.recipes;
+
+import gregtech.api.recipes.RecipeMap;
+import gregtech.api.recipes.RecipeMapStatistics;
+import gregtech.api.util.GTLog;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+
+public class CommandRecipeStatsDump extends CommandBase {
+
+    private static final String DUMP_FILE_NAME = "gregtech_recipe_stats.csv";
+
+    @Override
+    public String getName() {
+        return "dump";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.recipes.dump.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) {
+        File dumpFile = server.getFile(DUMP_FILE_NAME);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(dumpFile.toPath(), StandardCharsets.UTF_8))) {
+            writer.println("recipe_map,recipes,lookups,hits,misses,cached_misses,candidates_scanned,lookup_nanos,average_lookup_nanos");
+            for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+                RecipeMapStatistics statistics = recipeMap.getStatistics();
+                writer.println(String.join(",",
+                    recipeMap.getUnlocalizedName(),
+                    Integer.toString(recipeMap.getRecipeList().size()),
+                    Long.toString(statistics.getLookups()),
+                    Long.toString(statistics.getHits()),
+                    Long.toString(statistics.getMisses()),
+                    Long.toString(statistics.getCachedMisses()),
+                    Long.toString(statistics.getCandidatesScanned()),
+                    Long.toString(statistics.getLookupNanos()),
+                    String.format(Locale.ROOT, "%.1f", statistics.getAverageLookupNanos())));
+            }
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipes.dump.success", dumpFile.getAbsolutePath())
+                .setStyle(new Style().setColor(TextFormatting.GREEN)));
+        } catch (IOException exception) {
+            GTLog.logger.error("Failed to dump recipe map statistics", exception);
+            sender.sendMessage(new TextComponentTranslation("gregtech.command.recipes.dump.failed")
+                .setStyle(new Style().setColor(TextFormatting.RED)));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package gregtech.common.command.recipes;
+
+import gregtech.api.recipes.RecipeMap;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.Style;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraft.util.text.TextFormatting;
+
+public class CommandRecipeStatsReset extends CommandBase {
+
+    @Override
+    public String getName() {
+        return "reset";
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.recipes.reset.usage";
+    }
+
+    @Override
+    public void execute(MinecraftServer server, ICommandSender sender, String[] args) {
+        for (RecipeMap<?> recipeMap : RecipeMap.getRecipeMaps()) {
+            recipeMap.getStatistics().reset();
+        }
+        sender.sendMessage(new TextComponentTranslation("gregtech.command.recipes.reset.success")
+            .setStyle(new Style().setColor(TextFormatting.GREEN)));
+    }
+}
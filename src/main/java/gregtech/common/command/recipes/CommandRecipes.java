@@ -0,0 +1,28 @@
+package gregtech.common.command.recipes;
+
+import net.minecraft.command.ICommandSender;
+import net.minecraftforge.server.command.CommandTreeBase;
+
+public class CommandRecipes extends CommandTreeBase {
+
+    public CommandRecipes() {
+        addSubcommand(new CommandRecipeStats());
+        addSubcommand(new CommandRecipeStatsDump());
+        addSubcommand(new CommandRecipeStatsReset());
+    }
+
+    @Override
+    public String getName() {
+        return "recipes";
+    }
+
+    @Override
+    public int getRequiredPermissionLevel() {
+        return 3;
+    }
+
+    @Override
+    public String getUsage(ICommandSender sender) {
+        return "gregtech.command.recipes.usage";
+    }
+}
@@ -36,12 +36,12 @@ public class MetaTileEntityAirCollector extends TieredMetaTileEntity {
         super.update();
         if(!getWorld().isRemote) {
             long energyToConsume = GTValues.V[getTier()];
-            if (checkOpenSides() && getTimer() % 20 == 0L && energyContainer.getEnergyStored() >= energyToConsume) {
+            if (checkOpenSides() && getOffsetTimer() % 20 == 0L && energyContainer.getEnergyStored() >= energyToConsume) {
                 int fluidAmount = 500 * (1 << getTier());
                 exportFluids.fill(Materials.Air.getFluid(fluidAmount), true);
                 energyContainer.removeEnergy(energyToConsume);
             }
-            if (getTimer() % 5 == 0) {
+            if (shouldRunDeferrableWork(DEFERRABLE_AUTO_OUTPUT, 5)) {
                 pushFluidsIntoNearbyHandlers(getFrontFacing());
             }
         }
@@ -158,6 +158,8 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
     private void updateQueueState() {
         BlockPos selfPos = getPos().down(pumpHeadY);
         if(!blocksToCheck.isEmpty()) {
+            if(!shouldRunDeferrableWork(DEFERRABLE_PUMP_SCAN, 1))
+                return;
             BlockPos checkPos = this.blocksToCheck.poll();
             IBlockState blockHere = getWorld().getBlockState(checkPos);
             boolean shouldCheckNeighbours = isStraightInPumpRange(checkPos);
@@ -181,7 +183,7 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
             }
 
         } else if(fluidSourceBlocks.isEmpty()) {
-            if(getTimer() % 20 == 0 && pumpHeadY < 50) {
+            if(pumpHeadY < 50 && shouldRunDeferrableWork(DEFERRABLE_PUMP_HEAD_STEP, 20)) {
                 this.pumpHeadY++;
                 writeCustomData(-200, b -> b.writeInt(pumpHeadY));
                 markDirty();
@@ -189,7 +191,7 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
                 this.initializedQueue = false;
             }
 
-            if(!initializedQueue || getTimer() % 6000 == 0) {
+            if(!initializedQueue || shouldRunDeferrableWork(DEFERRABLE_PUMP_QUEUE_REBUILD, 6000)) {
                 this.initializedQueue = true;
                 //just add ourselves to check list and see how this will go
                 this.blocksToCheck.add(selfPos);
@@ -227,7 +229,7 @@ public class MetaTileEntityPump extends TieredMetaTileEntity {
         pushFluidsIntoNearbyHandlers(getFrontFacing());
         fillContainerFromInternalTank(importItems, exportItems, 0, 0);
         updateQueueState();
-        if(getTimer() % getPumpingCycleLength() == 0 && !fluidSourceBlocks.isEmpty() &&
+        if(getOffsetTimer() % getPumpingCycleLength() == 0 && !fluidSourceBlocks.isEmpty() &&
             energyContainer.getEnergyStored() >= GTValues.V[getTier()]) {
             tryPumpFirstBlock();
         }
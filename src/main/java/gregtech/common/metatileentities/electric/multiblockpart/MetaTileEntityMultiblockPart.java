@@ -66,6 +66,18 @@ public abstract class MetaTileEntityMultiblockPart extends MetaTileEntity implem
         return controllerTile;
     }
 
+    /**
+     * Also wakes up controller, because it's workable operates on inventories of this part
+     */
+    @Override
+    public void wakeUp() {
+        super.wakeUp();
+        MultiblockControllerBase controller = getController();
+        if(controller != null) {
+            controller.wakeUp();
+        }
+    }
+
     public ICubeRenderer getBaseTexture() {
         MultiblockControllerBase controller = getController();
         return controller == null ? Textures.VOLTAGE_CASINGS[tier] : controller.getBaseTexture(this);
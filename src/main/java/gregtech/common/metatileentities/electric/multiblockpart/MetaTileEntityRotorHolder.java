@@ -73,7 +73,7 @@ public class MetaTileEntityRotorHolder extends MetaTileEntityMultiblockPart impl
         if(getWorld().isRemote) {
             return;
         }
-        if(getTimer() % 10 == 0) {
+        if(getTimer() == 0 || getOffsetTimer() % 10 == 0) {
             this.frontFaceFree = checkTurbineFaceFree();
         }
 
@@ -177,18 +177,18 @@ public class MetaTileEntityLargeBoiler extends MultiblockWithDisplayBase {
     protected void updateFormedValid() {
         if(fuelBurnTicksLeft > 0) {
             --this.fuelBurnTicksLeft;
-            if(this.currentTemperature < boilerType.maxTemperature && getTimer() % 20 == 0) {
+            if(this.currentTemperature < boilerType.maxTemperature && getOffsetTimer() % 20 == 0) {
                 this.currentTemperature++;
             }
             if(fuelBurnTicksLeft == 0) {
                 this.wasActiveAndNeedsUpdate = true;
             }
-        } else if(currentTemperature > 0 && getTimer() % 20 == 0) {
+        } else if(currentTemperature > 0 && getOffsetTimer() % 20 == 0) {
             --this.currentTemperature;
         }
 
         if(currentTemperature >= 100) {
-            boolean doWaterDrain = getTimer() % 20 == 0;
+            boolean doWaterDrain = getOffsetTimer() % 20 == 0;
             FluidStack drainedWater = fluidImportInventory.drain(ModHandler.getWater(1), doWaterDrain);
             if(drainedWater == null || drainedWater.amount == 0) {
                 drainedWater = fluidImportInventory.drain(ModHandler.getDistilledWater(1), doWaterDrain);
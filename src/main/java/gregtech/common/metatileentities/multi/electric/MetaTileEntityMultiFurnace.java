@@ -89,6 +89,12 @@ public class MetaTileEntityMultiFurnace extends RecipeMapMultiblockController {
         return MetaBlocks.METAL_CASING.getState(MetalCasingType.INVAR_HEATPROOF);
     }
 
+    @Override
+    public int getMaxParallelRecipes() {
+        //multi smelter already batches items according to heating coils level
+        return 1;
+    }
+
     @Override
     public ICubeRenderer getBaseTexture(IMultiblockPart sourcePart) {
         return Textures.HEAT_PROOF_CASING;
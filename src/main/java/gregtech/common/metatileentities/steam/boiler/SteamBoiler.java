@@ -148,7 +148,7 @@ public abstract class SteamBoiler extends MetaTileEntity {
             updateCurrentTemperature();
             generateSteam();
 
-            if (getTimer() % 5 == 0) {
+            if (shouldRunDeferrableWork(DEFERRABLE_AUTO_OUTPUT, 5)) {
                 fillInternalTankFromFluidContainer(importItems, exportItems, 0, 0);
                 pushFluidsIntoNearbyHandlers(STEAM_PUSH_DIRECTIONS);
             }
@@ -171,7 +171,7 @@ public abstract class SteamBoiler extends MetaTileEntity {
 
     private void updateCurrentTemperature() {
         if (fuelMaxBurnTime > 0) {
-            if (getTimer() % 12 == 0) {
+            if (getOffsetTimer() % 12 == 0) {
                 if (fuelBurnTimeLeft % 2 == 0 && currentTemperature < getMaxTemperate())
                     currentTemperature++;
                 fuelBurnTimeLeft -= isHighPressure ? 2 : 1;
@@ -190,7 +190,7 @@ public abstract class SteamBoiler extends MetaTileEntity {
     }
 
     private void generateSteam() {
-        if (currentTemperature >= 100 && getTimer() % getBoilingCycleLength() == 0) {
+        if (currentTemperature >= 100 && getOffsetTimer() % getBoilingCycleLength() == 0) {
             float additionalTempBonus = (currentTemperature - 100) / (getMaxTemperate() - 100.0f);
             int fillAmount = baseSteamOutput + (int) (baseSteamOutput * additionalTempBonus);
             boolean hasDrainedWater = waterFluidTank.drain(1, true) != null;
@@ -78,7 +78,7 @@ public class MetaTileEntityQuantumTank extends MetaTileEntity {
     @Override
     public void update() {
         super.update();
-        if(!getWorld().isRemote && getTimer() % 5 == 0) {
+        if(!getWorld().isRemote && shouldRunDeferrableWork(DEFERRABLE_AUTO_OUTPUT, 5)) {
             ItemStack itemStack = containerInventory.getStackInSlot(0);
             Capability<IFluidHandlerItem> capability = CapabilityFluidHandler.FLUID_HANDLER_ITEM_CAPABILITY;
             if(!itemStack.isEmpty() && itemStack.hasCapability(capability, null)) {
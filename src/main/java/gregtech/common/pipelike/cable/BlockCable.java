@@ -10,6 +10,7 @@ import gregtech.common.pipelike.cable.net.EnergyNet;
 import gregtech.common.pipelike.cable.net.WorldENet;
 import gregtech.common.pipelike.cable.tile.TileEntityCable;
 import gregtech.common.render.CableRenderer;
+import net.minecraft.block.Block;
 import net.minecraft.block.ITileEntityProvider;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
@@ -59,6 +60,15 @@ public class BlockCable extends BlockPipe<Insulation, WireProperties, WorldENet>
         return activeNodeConnections;
     }
 
+    @Override
+    public void neighborChanged(IBlockState state, World worldIn, BlockPos pos, Block blockIn, BlockPos fromPos) {
+        super.neighborChanged(state, worldIn, pos, blockIn, fromPos);
+        EnergyNet energyNet = getWorldPipeNet(worldIn).getNetFromPos(pos);
+        if(energyNet != null) {
+            energyNet.onNodeNeighbourChanged(pos);
+        }
+    }
+
     /*@Override
     public boolean onBlockActivated(World worldIn, BlockPos pos, IBlockState state, EntityPlayer playerIn, EnumHand hand, EnumFacing facing, float hitX, float hitY, float hitZ) {
         if(!worldIn.isRemote) {
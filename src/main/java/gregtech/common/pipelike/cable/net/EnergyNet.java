@@ -1,21 +1,31 @@
 package gregtech.common.pipelike.cable.net;
 
+import gnu.trove.iterator.TLongObjectIterator;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import gregtech.api.pipenet.Node;
 import gregtech.api.pipenet.PipeNet;
 import gregtech.api.pipenet.WorldPipeNet;
+import gregtech.api.pipenet.block.BlockPipe;
 import gregtech.api.util.PerTickLongCounter;
 import gregtech.common.pipelike.cable.WireProperties;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockPos.MutableBlockPos;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 public class EnergyNet extends PipeNet<WireProperties> {
 
     private final PerTickLongCounter currentAmperageCounter = new PerTickLongCounter(0L);
     private final PerTickLongCounter currentMaxVoltageCounter = new PerTickLongCounter(0L);
+    //routes from source cables to active nodes reachable from them by offered voltage, shared by all cables of this net
+    //populated lazily for cables receiving energy, updated on node changes and cleared on other connection updates
+    private final Map<BlockPos, TLongObjectMap<List<RoutePath>>> routingTable = new HashMap<>();
+    private boolean isIncrementalUpdate = false;
+    //energy sinks next to active nodes, shared by all routes ending at these nodes
+    private final Map<BlockPos, NodeEnergySinks> nodeEnergySinks = new HashMap<>();
 
     protected EnergyNet(WorldPipeNet<WireProperties, EnergyNet> world) {
         super(world);
@@ -37,45 +47,270 @@ public class EnergyNet extends PipeNet<WireProperties> {
         }
     }
 
-    public List<RoutePath> computePatches(BlockPos startPos) {
-        ArrayList<RoutePath> readyPaths = new ArrayList<>();
-        RoutePath currentPath = new RoutePath();
-        Node<WireProperties> firstNode = allNodes.get(startPos);
-        currentPath.path.put(startPos, firstNode.data);
-        readyPaths.add(currentPath.cloneAndCompute(startPos));
-        HashSet<BlockPos> observedSet = new HashSet<>();
-        observedSet.add(startPos);
-        MutableBlockPos currentPos = new MutableBlockPos(startPos);
-        Stack<EnumFacing> moveStack = new Stack<>();
-        main: while(true) {
-            for(EnumFacing facing : EnumFacing.VALUES) {
-                currentPos.move(facing);
-                Node<WireProperties> secondNode = allNodes.get(currentPos);
-                if(secondNode != null && canNodesConnect(firstNode, facing, secondNode, this) && !observedSet.contains(currentPos)) {
-                    BlockPos immutablePos = currentPos.toImmutable();
-                    observedSet.add(immutablePos);
-                    firstNode = secondNode;
-                    moveStack.push(facing.getOpposite());
-                    currentPath.path.put(immutablePos, allNodes.get(immutablePos).data);
-                    if(secondNode.isActive) {
-                        //if we are on active node, this is end of our path
-                        RoutePath finalizedPath = currentPath.cloneAndCompute(immutablePos);
-                        readyPaths.add(finalizedPath);
+    /**
+     * Routes are chosen for offered voltage, so cables which can't carry it are used only when destination
+     * can't be reached without them. Amperage limits only break ties between routes of equal loss,
+     * because offered amperage changes with every insertion and cables burn by amperage of the whole net anyway
+     * @return routes from cable at given position to all active nodes reachable from it,
+     * computed once per net topology and offered voltage and shared between all cables
+     */
+    public List<RoutePath> getNetRoutes(BlockPos sourcePos, long voltage) {
+        TLongObjectMap<List<RoutePath>> routesByVoltage = routingTable.get(sourcePos);
+        if(routesByVoltage == null) {
+            routesByVoltage = new TLongObjectHashMap<>();
+            routingTable.put(sourcePos.toImmutable(), routesByVoltage);
+        }
+        List<RoutePath> routes = routesByVoltage.get(voltage);
+        if(routes == null) {
+            routes = Collections.unmodifiableList(computePatches(sourcePos, voltage));
+            routesByVoltage.put(voltage, routes);
+        }
+        return routes;
+    }
+
+    @Override
+    protected void onConnectionsUpdate() {
+        super.onConnectionsUpdate();
+        //node additions, removals and activity changes maintain routing table by themselves
+        if(!isIncrementalUpdate) {
+            routingTable.clear();
+        }
+        //drop sinks of nodes removed or moved to another net
+        nodeEnergySinks.keySet().retainAll(allNodes.keySet());
+    }
+
+    /**
+     * @return cached energy sinks next to given node, resolved on first insertion
+     */
+    public NodeEnergySinks getNodeEnergySinks(BlockPos nodePos, BlockPipe<?, ?, ?> pipeBlock) {
+        NodeEnergySinks energySinks = nodeEnergySinks.get(nodePos);
+        if(energySinks == null) {
+            energySinks = new NodeEnergySinks(getWorldData(), nodePos, pipeBlock);
+            nodeEnergySinks.put(nodePos, energySinks);
+        }
+        return energySinks;
+    }
+
+    /**
+     * Called when block next to given node changes, drops energy sinks cached for that node
+     */
+    public void onNodeNeighbourChanged(BlockPos nodePos) {
+        NodeEnergySinks energySinks = nodeEnergySinks.get(nodePos);
+        if(energySinks != null) {
+            energySinks.invalidate();
+        }
+    }
+
+    @Override
+    protected void addNode(BlockPos nodePos, Node<WireProperties> node) {
+        //leaf node can't make any existing route shorter, so only routes to it can appear
+        boolean isLeafNode = getConnectedNodesCount(nodePos, node) == 1;
+        this.isIncrementalUpdate = isLeafNode;
+        super.addNode(nodePos, node);
+        this.isIncrementalUpdate = false;
+        if(isLeafNode && node.isActive) {
+            addRoutesTo(nodePos);
+        }
+    }
+
+    @Override
+    protected void removeNode(BlockPos nodePos) {
+        //removal can only make routes going through removed node longer, other routes stay least loss ones
+        this.isIncrementalUpdate = true;
+        super.removeNode(nodePos);
+        this.isIncrementalUpdate = false;
+        removeRoutesThrough(nodePos);
+    }
+
+    @Override
+    public boolean markNodeAsActive(BlockPos nodePos, boolean isActive) {
+        this.isIncrementalUpdate = true;
+        boolean isModeChanged = super.markNodeAsActive(nodePos, isActive);
+        this.isIncrementalUpdate = false;
+        if(isModeChanged) {
+            if(isActive) {
+                addRoutesTo(nodePos);
+            } else {
+                removeRoutesTo(nodePos);
+                nodeEnergySinks.remove(nodePos);
+            }
+        }
+        return isModeChanged;
+    }
+
+    private int getConnectedNodesCount(BlockPos nodePos, Node<WireProperties> node) {
+        int connectedNodes = 0;
+        for(EnumFacing facing : EnumFacing.VALUES) {
+            Node<WireProperties> secondNode = allNodes.get(nodePos.offset(facing));
+            if(secondNode != null && canNodesConnect(node, facing, secondNode, this)) {
+                connectedNodes++;
+            }
+        }
+        return connectedNodes;
+    }
+
+    //adds routes to given node to all cached sources, found by single search started from that node
+    //loss and limits of route don't depend on it's direction, so reversed route is least loss one too
+    private void addRoutesTo(BlockPos targetPos) {
+        if(routingTable.isEmpty()) {
+            return;
+        }
+        //routes depend on offered voltage, so one search is needed for every voltage cached
+        TLongObjectMap<Set<BlockPos>> sourcesByVoltage = new TLongObjectHashMap<>();
+        for(Map.Entry<BlockPos, TLongObjectMap<List<RoutePath>>> entry : routingTable.entrySet()) {
+            for(long voltage : entry.getValue().keys()) {
+                Set<BlockPos> sources = sourcesByVoltage.get(voltage);
+                if(sources == null) {
+                    sources = new HashSet<>();
+                    sourcesByVoltage.put(voltage, sources);
+                }
+                sources.add(entry.getKey());
+            }
+        }
+        for(long voltage : sourcesByVoltage.keys()) {
+            Set<BlockPos> sourcesLeft = sourcesByVoltage.get(voltage);
+            searchLeastLossRoutes(targetPos, voltage, entry -> {
+                if(sourcesLeft.remove(entry.pos) && !entry.pos.equals(targetPos)) {
+                    insertRoute(entry.pos, voltage, entry.toReversedRoutePath(targetPos));
+                }
+                return !sourcesLeft.isEmpty();
+            });
+        }
+    }
+
+    private void insertRoute(BlockPos sourcePos, long voltage, RoutePath routePath) {
+        TLongObjectMap<List<RoutePath>> routesByVoltage = routingTable.get(sourcePos);
+        List<RoutePath> routes = new ArrayList<>(routesByVoltage.get(voltage));
+        //route to source itself always stays first
+        int insertIndex = 1;
+        while(insertIndex < routes.size() && compareRoutes(routes.get(insertIndex), routePath, voltage) <= 0) {
+            insertIndex++;
+        }
+        routes.add(insertIndex, routePath);
+        routesByVoltage.put(voltage, Collections.unmodifiableList(routes));
+    }
+
+    private void removeRoutesTo(BlockPos targetPos) {
+        for(TLongObjectMap<List<RoutePath>> routesByVoltage : routingTable.values()) {
+            TLongObjectIterator<List<RoutePath>> iterator = routesByVoltage.iterator();
+            while(iterator.hasNext()) {
+                iterator.advance();
+                List<RoutePath> routes = iterator.value();
+                for(int i = 1; i < routes.size(); i++) {
+                    if(routes.get(i).destination.equals(targetPos)) {
+                        iterator.setValue(withoutRoute(routes, i));
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private void removeRoutesThrough(BlockPos nodePos) {
+        Iterator<Map.Entry<BlockPos, TLongObjectMap<List<RoutePath>>>> iterator = routingTable.entrySet().iterator();
+        while(iterator.hasNext()) {
+            Map.Entry<BlockPos, TLongObjectMap<List<RoutePath>>> entry = iterator.next();
+            if(!allNodes.containsKey(entry.getKey())) {
+                //source was removed or moved to another net after split
+                iterator.remove();
+                continue;
+            }
+            TLongObjectIterator<List<RoutePath>> routesIterator = entry.getValue().iterator();
+            while(routesIterator.hasNext()) {
+                routesIterator.advance();
+                List<RoutePath> routes = routesIterator.value();
+                int removedRouteIndex = -1;
+                boolean isRouteBroken = false;
+                for(int i = 1; i < routes.size(); i++) {
+                    RoutePath routePath = routes.get(i);
+                    if(routePath.destination.equals(nodePos)) {
+                        removedRouteIndex = i;
+                    } else if(routePath.containsPosition(nodePos)) {
+                        isRouteBroken = true;
+                        break;
                     }
-                    continue main;
-                } else {
-                    currentPos.move(facing.getOpposite());
+                }
+                if(isRouteBroken) {
+                    //recompute routes of this source for that voltage on next use
+                    routesIterator.remove();
+                } else if(removedRouteIndex != -1) {
+                    routesIterator.setValue(withoutRoute(routes, removedRouteIndex));
                 }
             }
-            if(!moveStack.isEmpty()) {
-                currentPos.move(moveStack.pop());
-                //also remove already visited block from path
-                currentPath.path.remove(currentPos);
-            } else break;
         }
+    }
+
+    private static List<RoutePath> withoutRoute(List<RoutePath> routes, int routeIndex) {
+        List<RoutePath> newRoutes = new ArrayList<>(routes);
+        newRoutes.remove(routeIndex);
+        return Collections.unmodifiableList(newRoutes);
+    }
+
+    //routes able to carry offered voltage go first, then routes are ordered by their loss
+    private static int compareRoutes(RoutePath first, RoutePath second, long voltage) {
+        boolean firstCarriesVoltage = first.minVoltage >= voltage;
+        if(firstCarriesVoltage != (second.minVoltage >= voltage)) {
+            return firstCarriesVoltage ? -1 : 1;
+        }
+        if(first.totalLoss != second.totalLoss) {
+            return Integer.compare(first.totalLoss, second.totalLoss);
+        }
+        return Integer.compare(second.maxAmperage, first.maxAmperage);
+    }
+
+    /**
+     * Computes least loss routes for given voltage from given node to every active node reachable from it.
+     * Route to start node itself is always first, other routes able to carry voltage go before routes
+     * which aren't, and both are ordered by their total loss
+     * @see #searchLeastLossRoutes(BlockPos, long, Predicate)
+     */
+    public List<RoutePath> computePatches(BlockPos startPos, long voltage) {
+        ArrayList<RoutePath> readyPaths = new ArrayList<>();
+        searchLeastLossRoutes(startPos, voltage, entry -> {
+            if(entry.previous == null || entry.node.isActive) {
+                //routes to nodes further in search tree will continue this one instead of copying it
+                entry.route = entry.toRoutePath(entry.pos, entry.prefixRoute);
+                readyPaths.add(entry.route);
+            }
+            return true;
+        });
+        //search visits routes by amount of cables not carrying voltage, which is more than list order needs
+        readyPaths.subList(1, readyPaths.size()).sort((first, second) -> compareRoutes(first, second, voltage));
         return readyPaths;
     }
 
+    /**
+     * Runs Dijkstra's algorithm from given node, weighted first by amount of cables on the route
+     * with voltage limit lower than given voltage, and then by loss per block of each cable on the route.
+     * Among routes with equal weight, route with higher amperage limit is preferred.
+     * Visitor is called for every reachable node in order of it's route weight, and stops search by returning false
+     */
+    private void searchLeastLossRoutes(BlockPos startPos, long voltage, Predicate<RouteSearchEntry> visitor) {
+        HashMap<BlockPos, RouteSearchEntry> bestEntries = new HashMap<>();
+        HashSet<BlockPos> settledSet = new HashSet<>();
+        PriorityQueue<RouteSearchEntry> searchQueue = new PriorityQueue<>();
+        RouteSearchEntry startEntry = new RouteSearchEntry(startPos.toImmutable(), allNodes.get(startPos), null, voltage);
+        bestEntries.put(startEntry.pos, startEntry);
+        searchQueue.add(startEntry);
+        while(!searchQueue.isEmpty()) {
+            RouteSearchEntry currentEntry = searchQueue.poll();
+            //queue can contain outdated entries of already settled nodes, skip them
+            if(!settledSet.add(currentEntry.pos)) continue;
+            if(!visitor.test(currentEntry)) break;
+            for(EnumFacing facing : EnumFacing.VALUES) {
+                BlockPos offsetPos = currentEntry.pos.offset(facing);
+                Node<WireProperties> secondNode = allNodes.get(offsetPos);
+                if(secondNode == null || settledSet.contains(offsetPos) ||
+                    !canNodesConnect(currentEntry.node, facing, secondNode, this)) continue;
+                RouteSearchEntry newEntry = new RouteSearchEntry(offsetPos, secondNode, currentEntry, voltage);
+                RouteSearchEntry bestEntry = bestEntries.get(offsetPos);
+                if(bestEntry == null || newEntry.compareTo(bestEntry) < 0) {
+                    bestEntries.put(offsetPos, newEntry);
+                    searchQueue.add(newEntry);
+                }
+            }
+        }
+    }
 
     @Override
     protected void writeNodeData(WireProperties nodeData, NBTTagCompound tagCompound) {
@@ -91,4 +326,66 @@ public class EnergyNet extends PipeNet<WireProperties> {
         int lossPerBlock = tagCompound.getInteger("loss");
         return new WireProperties(voltage, amperage, lossPerBlock);
     }
+
+    private static class RouteSearchEntry implements Comparable<RouteSearchEntry> {
+
+        private final BlockPos pos;
+        private final Node<WireProperties> node;
+        private final RouteSearchEntry previous;
+        //cables on the route which can't carry searched voltage
+        private final int overloadedCables;
+        private final int totalLoss;
+        private final int maxAmperage;
+        private final int minVoltage;
+        private final int length;
+        //closest route created for entries before this one, and route created for this entry
+        private final RoutePath prefixRoute;
+        private RoutePath route;
+
+        private RouteSearchEntry(BlockPos pos, Node<WireProperties> node, RouteSearchEntry previous, long voltage) {
+            WireProperties wireProperties = node.data;
+            int overloadedCable = wireProperties.voltage < voltage ? 1 : 0;
+            this.pos = pos;
+            this.node = node;
+            this.previous = previous;
+            this.overloadedCables = previous == null ? overloadedCable : previous.overloadedCables + overloadedCable;
+            this.totalLoss = previous == null ? wireProperties.lossPerBlock : previous.totalLoss + wireProperties.lossPerBlock;
+            this.maxAmperage = previous == null ? wireProperties.amperage : Math.min(previous.maxAmperage, wireProperties.amperage);
+            this.minVoltage = previous == null ? wireProperties.voltage : Math.min(previous.minVoltage, wireProperties.voltage);
+            this.length = previous == null ? 1 : previous.length + 1;
+            this.prefixRoute = previous == null ? null : previous.route != null ? previous.route : previous.prefixRoute;
+        }
+
+        private RoutePath toRoutePath(BlockPos destination, RoutePath prefix) {
+            long[] positions = new long[prefix == null ? length : length - prefix.getLength()];
+            RouteSearchEntry entry = this;
+            for(int i = positions.length - 1; i >= 0; i--) {
+                positions[i] = entry.pos.toLong();
+                entry = entry.previous;
+            }
+            return new RoutePath(destination, prefix, positions, totalLoss, maxAmperage, minVoltage);
+        }
+
+        //creates route from this entry back to search start, for searches started from route destination
+        private RoutePath toReversedRoutePath(BlockPos destination) {
+            long[] positions = new long[length];
+            RouteSearchEntry entry = this;
+            for(int i = 0; i < positions.length; i++) {
+                positions[i] = entry.pos.toLong();
+                entry = entry.previous;
+            }
+            return new RoutePath(destination, null, positions, totalLoss, maxAmperage, minVoltage);
+        }
+
+        @Override
+        public int compareTo(RouteSearchEntry other) {
+            if(overloadedCables != other.overloadedCables) {
+                return Integer.compare(overloadedCables, other.overloadedCables);
+            }
+            if(totalLoss != other.totalLoss) {
+                return Integer.compare(totalLoss, other.totalLoss);
+            }
+            return Integer.compare(other.maxAmperage, maxAmperage);
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package gregtech.common.pipelike.cable.net;
+
+import gregtech.api.capability.GregtechCapabilities;
+import gregtech.api.capability.IEnergyContainer;
+import gregtech.api.pipenet.block.BlockPipe;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+
+/**
+ * Energy containers next to active node of energy net, shared by all routes ending at that node.
+ * Containers are resolved once and cached until neighbour of node changes or cached tile entity is invalidated.
+ * Container which accepted no energy because it had no room for offered voltage is skipped until
+ * it's stored energy or capacity changes, or lower voltage is offered to it.
+ */
+public class NodeEnergySinks {
+
+    private final World world;
+    private final BlockPos nodePos;
+    private final BlockPipe<?, ?, ?> pipeBlock;
+    //sink lookup results by facing index, valid only for facings set in resolved mask
+    private final TileEntity[] tileEntities = new TileEntity[6];
+    private final IEnergyContainer[] energyContainers = new IEnergyContainer[6];
+    private int resolvedSidesMask = 0;
+    //stored energy and capacity of container and voltage offered to it when it accepted nothing,
+    //valid only for facings set in full mask
+    private final long[] fullEnergyStored = new long[6];
+    private final long[] fullEnergyCapacity = new long[6];
+    private final long[] fullVoltage = new long[6];
+    private int fullSidesMask = 0;
+
+    public NodeEnergySinks(World world, BlockPos nodePos, BlockPipe<?, ?, ?> pipeBlock) {
+        this.world = world;
+        this.nodePos = nodePos;
+        this.pipeBlock = pipeBlock;
+    }
+
+    /**
+     * Drops all cached containers, so they will be looked up again on next energy insertion
+     */
+    public void invalidate() {
+        this.resolvedSidesMask = 0;
+        this.fullSidesMask = 0;
+    }
+
+    public long acceptEnergy(long voltage, long amperage) {
+        long amperesUsed = 0L;
+        for(EnumFacing facing : EnumFacing.VALUES) {
+            IEnergyContainer energyContainer = getEnergyContainer(facing);
+            if(energyContainer == null) continue;
+            int index = facing.getIndex();
+            if((fullSidesMask & 1 << index) != 0) {
+                if(voltage >= fullVoltage[index] && energyContainer.getEnergyStored() == fullEnergyStored[index] &&
+                    energyContainer.getEnergyCapacity() == fullEnergyCapacity[index])
+                    continue; //nothing changed since container was full
+                this.fullSidesMask &= ~(1 << index);
+            }
+            EnumFacing sinkSide = facing.getOpposite();
+            long amperageAccepted = energyContainer.acceptEnergyFromNetwork(sinkSide, voltage, amperage - amperesUsed);
+            if(amperageAccepted == 0L) {
+                //containers refusing for other reasons, like side not accepting energy, are asked again every time
+                long energyStored = energyContainer.getEnergyStored();
+                long energyCapacity = energyContainer.getEnergyCapacity();
+                if(energyContainer.inputsEnergy(sinkSide) && energyCapacity - energyStored < voltage) {
+                    this.fullEnergyStored[index] = energyStored;
+                    this.fullEnergyCapacity[index] = energyCapacity;
+                    this.fullVoltage[index] = voltage;
+                    this.fullSidesMask |= 1 << index;
+                }
+                continue;
+            }
+            amperesUsed += amperageAccepted;
+            if(amperesUsed == amperage)
+                break;
+        }
+        return amperesUsed;
+    }
+
+    @Nullable
+    private IEnergyContainer getEnergyContainer(EnumFacing facing) {
+        int index = facing.getIndex();
+        if((resolvedSidesMask & 1 << index) != 0) {
+            TileEntity tileEntity = tileEntities[index];
+            if(tileEntity == null || !tileEntity.isInvalid())
+                return energyContainers[index];
+            //sink was unloaded or replaced without notifying node
+            this.resolvedSidesMask &= ~(1 << index);
+            this.fullSidesMask &= ~(1 << index);
+        }
+        BlockPos sinkPos = nodePos.offset(facing);
+        //do not allow cables to load chunks
+        if(!world.isBlockLoaded(sinkPos))
+            return null;
+        TileEntity tileEntity = world.getTileEntity(sinkPos);
+        //cables receive energy only through their own energy net
+        if(tileEntity != null && pipeBlock.getPipeTileEntity(tileEntity) != null)
+            tileEntity = null;
+        this.tileEntities[index] = tileEntity;
+        this.energyContainers[index] = tileEntity == null ? null :
+            tileEntity.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, null);
+        this.resolvedSidesMask |= 1 << index;
+        return energyContainers[index];
+    }
+}
@@ -9,34 +9,84 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
+/**
+ * Route of energy from source cable to destination node, with it's total loss and bottleneck limits precomputed.
+ * Cable positions are stored packed with {@link BlockPos#toLong()}. Route can extend prefix route, in which case
+ * it stores only positions after prefix, so routes of the same search tree share their common part.
+ */
 public class RoutePath {
 
-    public BlockPos destination;
-    public HashMap<BlockPos, WireProperties> path = new HashMap<>();
-    public int maxAmperage = Integer.MAX_VALUE;
-    public int minVoltage = Integer.MAX_VALUE;
-    public int totalLoss;
-
-    public RoutePath cloneAndCompute(BlockPos destination) {
-        RoutePath newPath = new RoutePath();
-        newPath.path = new HashMap<>(path);
-        newPath.destination = destination;
-        for(WireProperties wireProperties : path.values()) {
-            newPath.maxAmperage = Math.min(newPath.maxAmperage, wireProperties.amperage);
-            newPath.minVoltage = Math.min(newPath.minVoltage, wireProperties.voltage);
-            newPath.totalLoss += wireProperties.lossPerBlock;
+    public final BlockPos destination;
+    public final int maxAmperage;
+    public final int minVoltage;
+    public final int totalLoss;
+    //route this one continues, or null if positions contain whole route
+    private final RoutePath prefix;
+    private final long[] positions;
+    private final int length;
+
+    public RoutePath(BlockPos destination, RoutePath prefix, long[] positions, int totalLoss, int maxAmperage, int minVoltage) {
+        this.destination = destination;
+        this.prefix = prefix;
+        this.positions = positions;
+        this.length = prefix == null ? positions.length : prefix.length + positions.length;
+        this.totalLoss = totalLoss;
+        this.maxAmperage = maxAmperage;
+        this.minVoltage = minVoltage;
+    }
+
+    /**
+     * @return amount of cables in this route, including shared prefix
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return positions of all cables in this route, from source cable to destination
+     */
+    public List<BlockPos> getPositions() {
+        BlockPos[] blockPositions = new BlockPos[length];
+        int endIndex = length;
+        for(RoutePath routePath = this; routePath != null; routePath = routePath.prefix) {
+            endIndex -= routePath.positions.length;
+            for(int i = 0; i < routePath.positions.length; i++) {
+                blockPositions[endIndex + i] = BlockPos.fromLong(routePath.positions[i]);
+            }
+        }
+        return Arrays.asList(blockPositions);
+    }
+
+    public boolean containsPosition(BlockPos blockPos) {
+        long packedPos = blockPos.toLong();
+        for(RoutePath routePath = this; routePath != null; routePath = routePath.prefix) {
+            for(long position : routePath.positions) {
+                if(position == packedPos) return true;
+            }
         }
-        return newPath;
+        return false;
     }
 
-    public boolean burnCablesInPath(World world, long voltage, long amperage) {
-        for(BlockPos blockPos : path.keySet()) {
-            WireProperties wireProperties = path.get(blockPos);
-            if(voltage > wireProperties.voltage || amperage > wireProperties.amperage) {
+    /**
+     * Burns cables of this route which can't carry given voltage or amperage. Shared prefixes are burned
+     * only if they aren't in given set of burned routes yet, so every cable is checked once when routes are burned together
+     */
+    public boolean burnCablesInPath(World world, long voltage, long amperage, Set<RoutePath> burnedRoutes) {
+        for(RoutePath routePath = this; routePath != null; routePath = routePath.prefix) {
+            //prefixes of already burned route were burned together with it
+            if(!burnedRoutes.add(routePath)) break;
+            for(long position : routePath.positions) {
+                BlockPos blockPos = BlockPos.fromLong(position);
+                //do not allow burning to load chunks
+                if(!world.isBlockLoaded(blockPos)) continue;
                 TileEntity tileEntity = world.getTileEntity(blockPos);
-                if(tileEntity instanceof TileEntityCable) {
+                if(!(tileEntity instanceof TileEntityCable)) continue;
+                WireProperties wireProperties = ((TileEntityCable) tileEntity).getNodeData();
+                if(voltage > wireProperties.voltage || amperage > wireProperties.amperage) {
                     world.setBlockToAir(blockPos);
                     world.setBlockState(blockPos, Blocks.FIRE.getDefaultState());
 
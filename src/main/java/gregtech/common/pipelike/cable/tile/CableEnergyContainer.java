@@ -1,29 +1,25 @@
 package gregtech.common.pipelike.cable.tile;
 
-import gregtech.api.capability.GregtechCapabilities;
 import gregtech.api.pipenet.tile.IPipeTile;
 import gregtech.common.pipelike.cable.Insulation;
 import gregtech.common.pipelike.cable.WireProperties;
 import gregtech.common.pipelike.cable.net.RoutePath;
 import gregtech.api.capability.IEnergyContainer;
 import gregtech.common.pipelike.cable.net.EnergyNet;
+import gregtech.common.pipelike.cable.net.NodeEnergySinks;
 import gregtech.common.pipelike.cable.net.WorldENet;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockPos.PooledMutableBlockPos;
-import net.minecraft.world.World;
 
 import java.lang.ref.WeakReference;
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class CableEnergyContainer implements IEnergyContainer {
 
     private final IPipeTile<Insulation, WireProperties> tileEntityCable;
     private WeakReference<EnergyNet> currentEnergyNet = new WeakReference<>(null);
-    private long lastCachedUpdate;
-    private List<RoutePath> pathsCache;
 
     public CableEnergyContainer(IPipeTile<Insulation, WireProperties> tileEntityCable) {
         this.tileEntityCable = tileEntityCable;
@@ -38,7 +34,7 @@ public class CableEnergyContainer implements IEnergyContainer {
             return 0L;
         }
         long lastAmperage = energyNet.getLastAmperage();
-        List<RoutePath> paths = getPaths();
+        List<RoutePath> paths = energyNet.getNetRoutes(tileEntityCable.getPipePos(), voltage);
         long amperesUsed = 0;
         for(RoutePath routePath : paths) {
             if(routePath.totalLoss >= voltage)
@@ -49,7 +45,7 @@ public class CableEnergyContainer implements IEnergyContainer {
                 burnAllPaths(paths, voltage, amperage, lastAmperage);
                 break; //break after burning all paths
             }
-            long amperageAccepted = dispatchEnergyToNode(routePath.destination,
+            long amperageAccepted = dispatchEnergyToNode(energyNet, routePath.destination,
                 voltage - routePath.totalLoss, amperage - amperesUsed);
             if(amperageAccepted > 0) {
                 amperesUsed += amperageAccepted;
@@ -63,32 +59,18 @@ public class CableEnergyContainer implements IEnergyContainer {
     }
 
     private void burnAllPaths(List<RoutePath> paths, long voltage, long amperage, long lastAmperage) {
+        Set<RoutePath> burnedRoutes = new HashSet<>();
         for(RoutePath pathToBurn : paths) {
             if(voltage > pathToBurn.minVoltage || amperage > pathToBurn.maxAmperage || lastAmperage > pathToBurn.maxAmperage) {
-                pathToBurn.burnCablesInPath(tileEntityCable.getPipeWorld(), voltage, Math.max(amperage, lastAmperage));
+                pathToBurn.burnCablesInPath(tileEntityCable.getPipeWorld(), voltage, Math.max(amperage, lastAmperage), burnedRoutes);
             }
         }
     }
 
-    private long dispatchEnergyToNode(BlockPos nodePos, long voltage, long amperage) {
-        long amperesUsed = 0L;
-        //use pooled mutable to avoid creating new objects every tick
-        World world = tileEntityCable.getPipeWorld();
-        PooledMutableBlockPos blockPos = PooledMutableBlockPos.retain();
-        for(EnumFacing facing : EnumFacing.VALUES) {
-            blockPos.setPos(nodePos).move(facing);
-            //do not allow cables to load chunks
-            if(!world.isBlockLoaded(nodePos)) continue;
-            TileEntity tileEntity = world.getTileEntity(blockPos);
-            if(tileEntity == null || tileEntityCable.getPipeBlock().getPipeTileEntity(tileEntity) != null) continue;
-            IEnergyContainer energyContainer = tileEntity.getCapability(GregtechCapabilities.CAPABILITY_ENERGY_CONTAINER, null);
-            if(energyContainer == null) continue;
-            amperesUsed += energyContainer.acceptEnergyFromNetwork(facing.getOpposite(), voltage, amperage - amperesUsed);
-            if(amperesUsed == amperage)
-                break;
-        }
-        blockPos.release();
-        return amperesUsed;
+    private long dispatchEnergyToNode(EnergyNet energyNet, BlockPos nodePos, long voltage, long amperage) {
+        //sink containers are resolved once per node and reused by every cable of the net
+        NodeEnergySinks energySinks = energyNet.getNodeEnergySinks(nodePos, tileEntityCable.getPipeBlock());
+        return energySinks.acceptEnergy(voltage, amperage);
     }
 
     @Override
@@ -129,22 +111,6 @@ public class CableEnergyContainer implements IEnergyContainer {
         return 0;
     }
 
-    private void recomputePaths(EnergyNet energyNet) {
-        this.lastCachedUpdate = energyNet.getLastUpdate();
-        this.pathsCache = energyNet.computePatches(tileEntityCable.getPipePos());
-    }
-
-    private List<RoutePath> getPaths() {
-        EnergyNet energyNet = getEnergyNet();
-        if(energyNet == null) {
-            return Collections.emptyList();
-        }
-        if(pathsCache == null || energyNet.getLastUpdate() > lastCachedUpdate) {
-            recomputePaths(energyNet);
-        }
-        return pathsCache;
-    }
-
     private EnergyNet getEnergyNet() {
         EnergyNet currentEnergyNet = this.currentEnergyNet.get();
         if(currentEnergyNet != null && currentEnergyNet.isValid() &&